@@ -0,0 +1,139 @@
+package org.lite.quotes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.lite.quotes.QuotesServiceApplication;
+import org.lite.quotes.entity.Person;
+import org.lite.quotes.model.QuoteImportRow;
+import org.lite.quotes.service.DataLoaderService;
+import org.lite.quotes.service.QuoteService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Boots the real application context without a web server against a throwaway SQLite file,
+ * seeded from data/people.csv and data/category.csv plus generated quotes.
+ * Eureka is off and JWTs are verified against a generated local JWK set, so no network is needed.
+ */
+public final class BenchmarkApplication implements AutoCloseable {
+
+    public static final int QUOTES_PER_PERSON = 20;
+
+    private final Path directory;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkApplication(Path directory, ConfigurableApplicationContext context) {
+        this.directory = directory;
+        this.context = context;
+    }
+
+    public static BenchmarkApplication start() {
+        try {
+            Path directory = Files.createTempDirectory("quotes-bench");
+            Path jwkSet = writeJwkSet(directory, generateKey());
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("spring.application.name", "quotes-service");
+            properties.put("spring.datasource.url", "jdbc:sqlite:" + directory.resolve("quotes.db"));
+            properties.put("spring.datasource.driver-class-name", "org.sqlite.JDBC");
+            properties.put("spring.jpa.database-platform", "org.hibernate.community.dialect.SQLiteDialect");
+            properties.put("spring.jpa.hibernate.ddl-auto", "update");
+            properties.put("spring.security.oauth2.resourceserver.jwt.jwk-set-uri", "http://localhost/unused");
+            properties.put("quotes.jwt.jwk-set-file", jwkSet.toString());
+            properties.put("eureka.client.enabled", "false");
+            properties.put("spring.cloud.discovery.enabled", "false");
+            properties.put("logging.level.root", "WARN");
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(QuotesServiceApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(properties)
+                    .run();
+            BenchmarkApplication application = new BenchmarkApplication(directory, context);
+            application.seed();
+            return application;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    public static RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048).keyID("benchmark").generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static Path writeJwkSet(Path directory, RSAKey key) throws IOException {
+        Path file = directory.resolve("jwks.json");
+        Files.writeString(file, new JWKSet(key.toPublicJWK()).toString());
+        return file;
+    }
+
+    private void seed() throws IOException {
+        DataLoaderService dataLoader = getBean(DataLoaderService.class);
+        dataLoader.loadCategoriesFromCsv();
+        dataLoader.loadPeopleFromCsv(true);
+
+        List<Person> people = getBean(QuoteService.class).getAllPeople();
+        dataLoader.importQuotesFromNdjson(new ByteArrayInputStream(generateQuotes(people)));
+    }
+
+    /* Deterministic quotes built from the vocabulary of the people's descriptions */
+    private byte[] generateQuotes(List<Person> people) throws IOException {
+        List<String> vocabulary = new ArrayList<>();
+        for (Person person : people) {
+            if (person.getDescription() != null) {
+                vocabulary.addAll(Arrays.asList(person.getDescription().toLowerCase().split("\\W+")));
+            }
+        }
+        vocabulary.removeIf(String::isBlank);
+
+        ObjectMapper objectMapper = getBean(ObjectMapper.class);
+        Random random = new Random(42);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Person person : people) {
+            for (int i = 0; i < QUOTES_PER_PERSON; i++) {
+                StringBuilder text = new StringBuilder();
+                int words = 8 + random.nextInt(16);
+                for (int w = 0; w < words; w++) {
+                    text.append(w == 0 ? "" : " ").append(vocabulary.get(random.nextInt(vocabulary.size())));
+                }
+                QuoteImportRow row = new QuoteImportRow(person.getFullName(), text.toString(), null, null);
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write('\n');
+            }
+        }
+        return out.toByteArray();
+    }
+}
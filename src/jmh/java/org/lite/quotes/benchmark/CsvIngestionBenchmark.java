@@ -0,0 +1,60 @@
+package org.lite.quotes.benchmark;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import org.lite.quotes.service.DataLoaderService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/* DataLoaderService CSV loading: opencsv parsing alone, and a full forced reload through the batched JDBC engine */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvIngestionBenchmark {
+
+    private BenchmarkApplication application;
+    private DataLoaderService dataLoader;
+    private byte[] peopleCsv;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        application = BenchmarkApplication.start();
+        dataLoader = application.getBean(DataLoaderService.class);
+        peopleCsv = new ClassPathResource("data/people.csv").getContentAsByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        application.close();
+    }
+
+    @Benchmark
+    public int parsePeopleCsv(Blackhole blackhole) throws IOException, CsvValidationException {
+        int rows = 0;
+        try (CSVReader reader = new CSVReader(new InputStreamReader(new ByteArrayInputStream(peopleCsv), StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                blackhole.consume(row);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /* Deletes and reinserts every person, then rebuilds the sampling index and evicts caches via PeopleChangedEvent */
+    @Benchmark
+    public int reloadPeople() {
+        return dataLoader.loadPeopleFromCsv(true);
+    }
+}
@@ -0,0 +1,423 @@
+package org.lite.quotes.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.opencsv.CSVReader;
+import com.sun.net.httpserver.HttpServer;
+import org.lite.quotes.QuotesServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Full-stack load test that runs without Keycloak, Eureka or keystores. It boots the service with the
+ * {@code perf} profile on a fresh SQLite file and verifies JWTs against an in-process JWK endpoint,
+ * whose key also signs the test tokens (gateway_admin_realm plus linqra-gateway-client/gateway_admin).
+ * After seeding it drives a closed-loop workload from virtual threads and prints throughput and
+ * latency percentiles per operation, also written as JSON.
+ * <p>
+ * {@code mvn -Pbenchmark test-compile exec:exec@load-test -Dperf.workload=mixed -Dperf.concurrency=64}
+ * <ul>
+ *   <li>perf.workload: people, quotes, data or mixed (default mixed)</li>
+ *   <li>perf.concurrency: concurrent clients (default 64)</li>
+ *   <li>perf.warmup / perf.duration: ISO-8601 or plain seconds (default 10 / 30)</li>
+ *   <li>perf.tokens: distinct bearer tokens shared by the clients (default 16)</li>
+ *   <li>perf.result: JSON report path (default target/perf-result.json)</li>
+ * </ul>
+ */
+public final class LoadTestHarness {
+
+    private static final String CONTEXT_PATH = "/r/quotes-service";
+    private static final String[] SEARCH_TERMS = {"philosopher", "ancient greek", "writer known", "physicist quotes", "poet"};
+    private static final int IMPORT_BATCH = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String baseUrl;
+    private List<String> tokens;
+    private List<String> authors;
+    private long[] personIds;
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestHarness().run();
+    }
+
+    private void run() throws Exception {
+        String workload = System.getProperty("perf.workload", "mixed");
+        int concurrency = Integer.getInteger("perf.concurrency", 64);
+        Duration warmup = duration("perf.warmup", 10);
+        Duration measured = duration("perf.duration", 30);
+        Path result = Path.of(System.getProperty("perf.result", "target/perf-result.json"));
+
+        Path directory = Files.createTempDirectory("quotes-perf");
+        RSAKey key = BenchmarkApplication.generateKey();
+        AtomicInteger jwkFetches = new AtomicInteger();
+        HttpServer jwkStub = startJwkStub(key, jwkFetches);
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:sqlite:" + directory.resolve("quotes.db"));
+        properties.put("spring.security.oauth2.resourceserver.jwt.jwk-set-uri",
+                "http://localhost:" + jwkStub.getAddress().getPort() + "/jwks");
+        properties.put("server.port", "0");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(QuotesServiceApplication.class)
+                .profiles("perf")
+                .properties(properties)
+                .run();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port + CONTEXT_PATH;
+            tokens = signTokens(key, Integer.getInteger("perf.tokens", 16));
+            seed();
+
+            List<Operation> operations = operations(workload);
+            System.out.printf("Workload %s: %d clients, %ss warm-up, %ss measured%n",
+                    workload, concurrency, warmup.toSeconds(), measured.toSeconds());
+            drive(operations, concurrency, warmup);
+            Recorder[] recorders = drive(operations, concurrency, measured);
+
+            Map<String, Object> report = report(operations, recorders, measured);
+            report.put("config", Map.of("workload", workload, "concurrency", concurrency,
+                    "durationSeconds", measured.toSeconds(), "jwkFetches", jwkFetches.get()));
+            Files.createDirectories(result.toAbsolutePath().getParent());
+            objectMapper.writeValue(result.toFile(), report);
+            System.out.println("Results written to " + result.toAbsolutePath());
+        } finally {
+            context.close();
+            jwkStub.stop(0);
+        }
+    }
+
+    /* One closed-loop client per virtual thread until the deadline; each keeps its own samples */
+    private Recorder[] drive(List<Operation> operations, int concurrency, Duration duration) throws InterruptedException {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        Recorder[] recorders = new Recorder[concurrency];
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                Recorder recorder = new Recorder(operations.size());
+                recorders[c] = recorder;
+                String token = tokens.get(c % tokens.size());
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        int index = pick(operations, ThreadLocalRandom.current().nextInt(totalWeight));
+                        HttpRequest request = operations.get(index).request().apply(this)
+                                .header("Authorization", "Bearer " + token)
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        recorder.record(index, System.nanoTime() - start, status);
+                    }
+                    return null;
+                });
+            }
+        }
+        return recorders;
+    }
+
+    private List<Operation> operations(String workload) {
+        List<Operation> people = List.of(
+                new Operation("GET /api/people/random", 40, h -> h.get("/api/people/random")),
+                new Operation("GET /api/people/random?category", 10, h -> h.get("/api/people/random?category=Writers")),
+                new Operation("GET /api/people/random?count=10", 5, h -> h.get("/api/people/random?count=10")),
+                new Operation("GET /api/people/{id}", 30, h -> h.get("/api/people/" + h.randomPersonId())),
+                new Operation("GET /api/people?limit=100", 15, h -> h.get("/api/people?limit=100")));
+        List<Operation> quotes = List.of(
+                new Operation("GET /api/quotes/search", 40, h -> h.get("/api/quotes/search?limit=20&q="
+                        + SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)].replace(" ", "+"))),
+                new Operation("GET /api/quotes/person/{id}", 30, h -> h.get("/api/quotes/person/" + h.randomPersonId())),
+                new Operation("GET /api/quotes?limit=100", 20, h -> h.get("/api/quotes?limit=100")),
+                new Operation("GET /api/quotes?personId", 10, h -> h.get("/api/quotes?personId=" + h.randomPersonId())));
+        Operation importQuotes = new Operation("POST /api/data/import/quotes", 2, h -> h.post(
+                "/api/data/import/quotes", "application/x-ndjson", h.quoteBatch(IMPORT_BATCH)));
+
+        return switch (workload) {
+            case "people" -> people;
+            case "quotes" -> quotes;
+            case "data" -> List.of(importQuotes);
+            case "mixed" -> {
+                List<Operation> all = new ArrayList<>(people);
+                all.addAll(quotes);
+                all.add(importQuotes);
+                yield all;
+            }
+            default -> throw new IllegalArgumentException("Unknown perf.workload: " + workload);
+        };
+    }
+
+    private void seed() throws Exception {
+        String token = tokens.get(0);
+        expectOk(http.send(get("/api/data/load/categories").header("Authorization", "Bearer " + token).build(),
+                HttpResponse.BodyHandlers.ofString()));
+        expectOk(http.send(get("/api/data/load/people?force=true").header("Authorization", "Bearer " + token).build(),
+                HttpResponse.BodyHandlers.ofString()));
+
+        authors = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(new InputStreamReader(
+                new ClassPathResource("data/people.csv").getInputStream(), StandardCharsets.UTF_8))) {
+            reader.skip(1);
+            for (String[] row : reader) {
+                authors.add(row[0].trim());
+            }
+        }
+        for (int i = 0; i < BenchmarkApplication.QUOTES_PER_PERSON; i++) {
+            expectOk(http.send(post("/api/data/import/quotes", "application/x-ndjson", quoteBatch(authors.size()))
+                    .header("Authorization", "Bearer " + token).build(), HttpResponse.BodyHandlers.ofString()));
+        }
+
+        HttpResponse<String> page = http.send(get("/api/people?limit=500").header("Authorization", "Bearer " + token).build(),
+                HttpResponse.BodyHandlers.ofString());
+        expectOk(page);
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode item : objectMapper.readTree(page.body()).path("items")) {
+            ids.add(item.path("id").asLong());
+        }
+        personIds = ids.stream().mapToLong(Long::longValue).toArray();
+        System.out.printf("Seeded %d people and %d quotes%n", personIds.length, authors.size() * BenchmarkApplication.QUOTES_PER_PERSON);
+    }
+
+    private Map<String, Object> report(List<Operation> operations, Recorder[] recorders, Duration duration) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> byOperation = new LinkedHashMap<>();
+        List<long[]> everything = new ArrayList<>();
+        long totalErrors = 0;
+
+        System.out.printf("%-36s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (int op = 0; op < operations.size(); op++) {
+            List<long[]> parts = new ArrayList<>();
+            Map<Integer, Long> statuses = new TreeMap<>();
+            for (Recorder recorder : recorders) {
+                parts.add(recorder.latencies(op));
+                recorder.statuses.get(op).forEach((status, count) -> statuses.merge(status, count, Long::sum));
+            }
+            long[] latencies = concat(parts);
+            everything.add(latencies);
+            long errors = statuses.entrySet().stream().filter(e -> e.getKey() < 200 || e.getKey() >= 400)
+                    .mapToLong(Map.Entry::getValue).sum();
+            totalErrors += errors;
+            Map<String, Object> stats = stats(latencies, errors, duration);
+            stats.put("statusCodes", statuses);
+            byOperation.put(operations.get(op).name(), stats);
+            print(operations.get(op).name(), stats);
+        }
+        Map<String, Object> total = stats(concat(everything), totalErrors, duration);
+        print("TOTAL", total);
+        report.put("total", total);
+        report.put("operations", byOperation);
+        return report;
+    }
+
+    private static Map<String, Object> stats(long[] latencies, long errors, Duration duration) {
+        Arrays.sort(latencies);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", latencies.length);
+        stats.put("errors", errors);
+        stats.put("throughputPerSecond", round(latencies.length / (double) duration.toMillis() * 1000));
+        stats.put("p50Millis", percentile(latencies, 0.50));
+        stats.put("p90Millis", percentile(latencies, 0.90));
+        stats.put("p99Millis", percentile(latencies, 0.99));
+        stats.put("p999Millis", percentile(latencies, 0.999));
+        stats.put("maxMillis", latencies.length == 0 ? 0 : round(latencies[latencies.length - 1] / 1e6));
+        return stats;
+    }
+
+    private static void print(String name, Map<String, Object> stats) {
+        System.out.printf("%-36s %9s %8s %9s %9s %9s %9s %9s %9s%n", name, stats.get("requests"), stats.get("errors"),
+                stats.get("throughputPerSecond"), stats.get("p50Millis"), stats.get("p90Millis"),
+                stats.get("p99Millis"), stats.get("p999Millis"), stats.get("maxMillis"));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return round(sorted[Math.max(0, index)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    private static long[] concat(List<long[]> parts) {
+        long[] all = new long[parts.stream().mapToInt(p -> p.length).sum()];
+        int offset = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, all, offset, part.length);
+            offset += part.length;
+        }
+        return all;
+    }
+
+    private static int pick(List<Operation> operations, int ticket) {
+        for (int i = 0; i < operations.size(); i++) {
+            ticket -= operations.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return operations.size() - 1;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String contentType, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private long randomPersonId() {
+        return personIds[ThreadLocalRandom.current().nextInt(personIds.length)];
+    }
+
+    private String quoteBatch(int size) {
+        StringBuilder body = new StringBuilder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < size; i++) {
+            String author = authors.get(i < authors.size() && size == authors.size() ? i : random.nextInt(authors.size()));
+            String text = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)] + " load test quote " + random.nextLong();
+            try {
+                body.append(objectMapper.writeValueAsString(Map.of("author", author, "quoteText", text))).append('\n');
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return body.toString();
+    }
+
+    private static void expectOk(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding failed: " + response.uri() + " -> " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private static HttpServer startJwkStub(RSAKey key, AtomicInteger fetches) throws Exception {
+        byte[] jwks = new JWKSet(key.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/jwks", exchange -> {
+            fetches.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(jwks);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static List<String> signTokens(RSAKey key, int count) throws JOSEException {
+        List<String> signed = new ArrayList<>(count);
+        Instant now = Instant.now();
+        for (int i = 0; i < count; i++) {
+            JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                    .issuer("http://localhost:8281/realms/Linqra")
+                    .subject("load-test-" + i)
+                    .issueTime(Date.from(now))
+                    .expirationTime(Date.from(now.plus(Duration.ofHours(2))))
+                    .claim("realm_access", Map.of("roles", List.of("gateway_admin_realm")))
+                    .claim("resource_access", Map.of("linqra-gateway-client", Map.of("roles", List.of("gateway_admin"))))
+                    .build();
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256)
+                    .keyID(key.getKeyID())
+                    .type(JOSEObjectType.JWT)
+                    .build(), claims);
+            jwt.sign(new RSASSASigner(key));
+            signed.add(jwt.serialize());
+        }
+        return signed;
+    }
+
+    private static Duration duration(String property, long defaultSeconds) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return Duration.ofSeconds(defaultSeconds);
+        }
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private record Operation(String name, int weight, Function<LoadTestHarness, HttpRequest.Builder> request) {
+    }
+
+    /* Samples of one client thread, so recording needs no synchronization */
+    private static final class Recorder {
+        private final long[][] latencies;
+        private final int[] counts;
+        private final List<Map<Integer, Long>> statuses = new ArrayList<>();
+
+        Recorder(int operations) {
+            latencies = new long[operations][1024];
+            counts = new int[operations];
+            for (int i = 0; i < operations; i++) {
+                statuses.add(new TreeMap<>());
+            }
+        }
+
+        void record(int operation, long nanos, int status) {
+            if (counts[operation] == latencies[operation].length) {
+                latencies[operation] = Arrays.copyOf(latencies[operation], counts[operation] * 2);
+            }
+            latencies[operation][counts[operation]++] = nanos;
+            statuses.get(operation).merge(status, 1L, Long::sum);
+        }
+
+        long[] latencies(int operation) {
+            return Arrays.copyOf(latencies[operation], counts[operation]);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.lite.quotes.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.lite.quotes.model.PersonResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* Jackson serialization of PersonResponse with an ObjectMapper configured like Spring MVC's */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter personWriter;
+    private PersonResponse person;
+    private List<PersonResponse> hundredPeople;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        personWriter = objectMapper.writerFor(PersonResponse.class);
+        person = new PersonResponse("Albert Einstein", "The Relativity Genius", 1879, 1955, "German",
+                "German physicist known for his scientific and philosophical quotes", "Scientists");
+        hundredPeople = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            hundredPeople.add(person);
+        }
+    }
+
+    @Benchmark
+    public byte[] onePerson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(person);
+    }
+
+    @Benchmark
+    public byte[] onePersonPrebuiltWriter() throws JsonProcessingException {
+        return personWriter.writeValueAsBytes(person);
+    }
+
+    @Benchmark
+    public byte[] hundredPeople() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(hundredPeople);
+    }
+}
@@ -0,0 +1,48 @@
+package org.lite.quotes.benchmark;
+
+import org.lite.quotes.model.QuoteSearchResponse;
+import org.lite.quotes.service.QuoteSearchIndex;
+import org.lite.quotes.service.QuoteService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/* QuoteServiceImpl.searchQuotes: BM25 ranking in memory plus one IN query for the page */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuoteSearchBenchmark {
+
+    @Param({"philosopher", "ancient greek philosopher", "physicist known for scientific quotes"})
+    public String query;
+
+    private BenchmarkApplication application;
+    private QuoteService quoteService;
+    private QuoteSearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start();
+        quoteService = application.getBean(QuoteService.class);
+        searchIndex = application.getBean(QuoteSearchIndex.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        application.close();
+    }
+
+    @Benchmark
+    public QuoteSearchResponse searchQuotes() {
+        return quoteService.searchQuotes(query, 20, 0);
+    }
+
+    @Benchmark
+    public QuoteSearchIndex.SearchHits rankOnly() {
+        return searchIndex.search(query, 20, 0);
+    }
+}
@@ -0,0 +1,60 @@
+package org.lite.quotes.benchmark;
+
+import org.lite.quotes.entity.Person;
+import org.lite.quotes.service.PersonSamplingIndex;
+import org.lite.quotes.service.QuoteService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* The lookups behind GET /api/people/random: sample ids from the in-memory index, then load through the cache */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomPersonBenchmark {
+
+    private BenchmarkApplication application;
+    private PersonSamplingIndex samplingIndex;
+    private QuoteService quoteService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = BenchmarkApplication.start();
+        samplingIndex = application.getBean(PersonSamplingIndex.class);
+        quoteService = application.getBean(QuoteService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        application.close();
+    }
+
+    @Benchmark
+    public Person randomPerson() {
+        long[] ids = samplingIndex.sample(null, null, 1);
+        return quoteService.getPerson(ids[0]).orElse(null);
+    }
+
+    @Benchmark
+    public Person randomPersonByCategoryAndNationality() {
+        long[] ids = samplingIndex.sample("Philosophers", "Greek", 1);
+        return ids.length == 0 ? null : quoteService.getPerson(ids[0]).orElse(null);
+    }
+
+    @Benchmark
+    public List<Person> tenRandomPeople() {
+        long[] ids = samplingIndex.sample(null, null, 10);
+        return quoteService.getPeopleByIds(Arrays.stream(ids).boxed().toList());
+    }
+
+    @Benchmark
+    public long[] sampleOnly() {
+        return samplingIndex.sample(null, null, 1);
+    }
+}
@@ -0,0 +1,61 @@
+package org.lite.quotes.benchmark;
+
+import org.lite.quotes.config.RolePolicyProperties;
+import org.lite.quotes.filter.RolePolicy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/* The authorization check of JwtRoleValidationFilter: a repeated token (roles cached) and a new token each time */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoleCheckBenchmark {
+
+    private RolePolicy rolePolicy;
+    private Jwt adminToken;
+    private Jwt userToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rolePolicy = new RolePolicy(new RolePolicyProperties());
+        adminToken = token(List.of("offline_access", "gateway_admin_realm"), List.of("gateway_admin"));
+        userToken = token(List.of("offline_access"), List.of());
+    }
+
+    @Benchmark
+    public boolean cachedAdminToken() {
+        return rolePolicy.permits("/api/people/42", adminToken);
+    }
+
+    @Benchmark
+    public boolean cachedDeniedToken() {
+        return rolePolicy.permits("/api/people/42", userToken);
+    }
+
+    @Benchmark
+    public boolean newTokenEachCall() {
+        return rolePolicy.permits("/api/people/42",
+                token(List.of("offline_access", "gateway_admin_realm"), List.of("gateway_admin")));
+    }
+
+    private static Jwt token(List<String> realmRoles, List<String> clientRoles) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue("benchmark")
+                .header("alg", "RS256")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .claim("realm_access", Map.of("roles", realmRoles))
+                .claim("resource_access", Map.of(
+                        "linqra-gateway-client", Map.of("roles", clientRoles),
+                        "account", Map.of("roles", List.of("manage-account", "view-profile"))))
+                .build();
+    }
+}
@@ -2,9 +2,13 @@ package org.lite.quotes;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /* Quotes Service Application */
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class QuotesServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(QuotesServiceApplication.class, args);
@@ -0,0 +1,237 @@
+package org.lite.quotes.config;
+
+import org.lite.quotes.model.BulkheadStatistics;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many connections are in use at once with a fair semaphore, held from getConnection()
+ * until the connection is closed. With virtual threads there is no request thread pool left to limit
+ * concurrency, and the SQLite driver pins the carrier thread during native calls, so without this
+ * thousands of requests would queue inside Hikari and starve the carriers.
+ * Callers that cannot get a permit within the timeout fail fast instead of waiting for the pool.
+ * <p>
+ * Streaming reads, run through {@link #streaming(Runnable)}, hold their connection for as long as the
+ * client takes to download. They need a streaming permit before a regular one, so at most
+ * {@code maxConcurrentStreaming} of the regular permits can be tied up by slow downloads and the
+ * rest stay available to everything else, the health probe included.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<Boolean> STREAMING = new ThreadLocal<>();
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Semaphore streamingPermits;
+    private final int maxConcurrentStreaming;
+    private final long acquireTimeoutNanos;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder queued = new LongAdder();         // Acquisitions that had to wait
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder streamingRejected = new LongAdder();
+
+    public BulkheadDataSource(DataSource target, int maxConcurrent, int maxConcurrentStreaming, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxConcurrentStreaming = Math.max(1, Math.min(maxConcurrentStreaming, maxConcurrent - 1));
+        this.streamingPermits = new Semaphore(this.maxConcurrentStreaming, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    /**
+     * Runs a read whose connection stays open while its results are written to a client, so that the
+     * connections it opens count against the streaming budget.
+     */
+    public static void streaming(Runnable read) {
+        Boolean previous = STREAMING.get();
+        STREAMING.set(Boolean.TRUE);
+        try {
+            read.run();
+        } finally {
+            if (previous == null) {
+                STREAMING.remove();
+            } else {
+                STREAMING.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean streaming = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(), streaming);
+        } catch (SQLException | RuntimeException e) {
+            release(streaming);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        boolean streaming = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password), streaming);
+        } catch (SQLException | RuntimeException e) {
+            release(streaming);
+            throw e;
+        }
+    }
+
+    public BulkheadStatistics getStatistics() {
+        long acquiredCount = acquired.sum();
+        long queuedCount = queued.sum();
+        return new BulkheadStatistics(
+                maxConcurrent,
+                maxConcurrent - permits.availablePermits(),
+                waiting.get(),
+                acquiredCount,
+                queuedCount,
+                rejected.sum(),
+                queuedCount == 0 ? 0 : totalWaitNanos.sum() / queuedCount / 1_000_000.0,
+                maxWaitNanos.get() / 1_000_000.0,
+                maxConcurrentStreaming,
+                maxConcurrentStreaming - streamingPermits.availablePermits(),
+                streamingRejected.sum());
+    }
+
+    /* Returns whether a streaming permit was taken as well as the regular one */
+    private boolean acquire() throws SQLException {
+        boolean streaming = STREAMING.get() != null;
+        if (streaming) {
+            acquireStreaming();
+        }
+        try {
+            acquireRegular();
+        } catch (SQLException | RuntimeException e) {
+            if (streaming) {
+                streamingPermits.release();
+            }
+            throw e;
+        }
+        return streaming;
+    }
+
+    private void release(boolean streaming) {
+        permits.release();
+        if (streaming) {
+            streamingPermits.release();
+        }
+    }
+
+    private void acquireStreaming() throws SQLException {
+        try {
+            if (!streamingPermits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                streamingRejected.increment();
+                throw new SQLTransientConnectionException("Streaming bulkhead full: " + maxConcurrentStreaming
+                        + " streaming reads in progress, waited " + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a streaming permit", e);
+        }
+    }
+
+    private void acquireRegular() throws SQLException {
+        // tryAcquire() without a timeout would barge past waiting threads even on a fair semaphore
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                acquired.increment();
+                return;
+            }
+            queued.increment();
+            waiting.incrementAndGet();
+            long start = System.nanoTime();
+            boolean granted;
+            try {
+                granted = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+            } finally {
+                waiting.decrementAndGet();
+                long waited = System.nanoTime() - start;
+                totalWaitNanos.add(waited);
+                maxWaitNanos.accumulate(waited);
+            }
+            if (!granted) {
+                rejected.increment();
+                throw new SQLTransientConnectionException("Database bulkhead full: " + maxConcurrent
+                        + " connections in use, waited " + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms");
+            }
+            acquired.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection guard(Connection target, boolean streaming) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new PermitReleasingHandler(target, streaming));
+    }
+
+    /* Releases the permits on the first close(); everything else goes straight to the target */
+    private final class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private final boolean streaming;
+        private boolean closed;
+
+        PermitReleasingHandler(Connection target, boolean streaming) {
+            this.target = target;
+            this.streaming = streaming;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "close":
+                    if (closed) {
+                        return null;
+                    }
+                    closed = true;
+                    try {
+                        target.close();
+                    } finally {
+                        release(streaming);
+                    }
+                    return null;
+                case "isClosed":
+                    if (closed) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
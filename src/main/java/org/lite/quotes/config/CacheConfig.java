@@ -0,0 +1,52 @@
+package org.lite.quotes.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.lite.quotes.service.DatasetVersion;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PEOPLE = "people";                   // Person by id
+    public static final String ALL_PEOPLE = "allPeople";            // Single entry: every person
+    public static final String CATEGORIES = "categories";           // Single entry: every category
+    public static final String QUOTES_BY_PERSON = "quotesByPerson"; // Quote list by person id
+    public static final String RESPONSE_BODIES = "responseBodies";  // Serialized JSON by kind, id and dataset version
+    public static final String RESPONSE_VARIANTS = "responseVariants"; // Serialized and compressed bodies by ETag and coding
+
+    public static final List<String> CACHE_NAMES =
+            List.of(PEOPLE, ALL_PEOPLE, CATEGORIES, QUOTES_BY_PERSON, RESPONSE_BODIES, RESPONSE_VARIANTS);
+
+    // Entity caches, stamped with the dataset version they were read under; the response caches key by it instead
+    public static final List<String> VERSION_STAMPED = List.of(PEOPLE, ALL_PEOPLE, CATEGORIES, QUOTES_BY_PERSON);
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties, ObjectProvider<DatasetVersion> datasetVersion) {
+        SingletonSupplier<DatasetVersion> version = SingletonSupplier.of(datasetVersion::getObject);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return VERSION_STAMPED.contains(name)
+                        ? new VersionStampedCache(name, cache, isAllowNullValues(), () -> version.obtain().current())
+                        : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        // Only the caches below exist; a typo in a cache name fails instead of creating an unbounded cache
+        cacheManager.setCacheNames(List.of());
+        for (String name : CACHE_NAMES) {
+            String spec = properties.getSpecs().getOrDefault(name, properties.getDefaultSpec());
+            cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+        }
+        return cacheManager;
+    }
+}
@@ -0,0 +1,15 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/* Caffeine spec per cache name, e.g. "maximumSize=10000,expireAfterWrite=30m" */
+@Data
+@ConfigurationProperties(prefix = "quotes.cache")
+public class CacheSpecProperties {
+    private String defaultSpec = "maximumSize=1000,expireAfterWrite=10m";
+    private Map<String, String> specs = new HashMap<>();
+}
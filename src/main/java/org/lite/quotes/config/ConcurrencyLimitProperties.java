@@ -0,0 +1,25 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = false;
+    private int initialLimit = 50;
+    private int minLimit = 10;
+    private int maxLimit = 1000;
+    private double rttTolerance = 1.5;              // Latency may reach this multiple of the baseline before the limit shrinks
+    private double smoothing = 0.2;                 // Weight of each new estimate in the limit
+    private Duration window = Duration.ofSeconds(1); // Latency samples are averaged per window...
+    private int minWindowSamples = 10;              // ...once at least this many have arrived
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private double priorityHeadroom = 1.5;          // Priority requests may use this multiple of the limit
+    private List<String> exemptPaths = new ArrayList<>(List.of("/health", "/api/quotes/stream"));   // Long-lived streams would pin a slot
+    private List<String> priorityPaths = new ArrayList<>(List.of("/api/data/**"));
+}
@@ -0,0 +1,43 @@
+package org.lite.quotes.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "quotes.db-bulkhead", name = "enabled", havingValue = "true")
+@Slf4j
+public class DbBulkheadConfig {
+
+    /**
+     * Wraps the application's {@code dataSource} bean (the plain Hikari pool, or the read/write proxy of
+     * the SQLite performance profile) so every JPA and JDBC call goes through the bulkhead.
+     * Static and bound straight from the environment because post-processors are created before
+     * {@code @ConfigurationProperties} beans.
+     */
+    @Bean
+    static BeanPostProcessor dbBulkheadPostProcessor(Environment environment) {
+        DbBulkheadProperties properties = Binder.get(environment)
+                .bind("quotes.db-bulkhead", DbBulkheadProperties.class)
+                .orElseGet(DbBulkheadProperties::new);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof BulkheadDataSource)) {
+                    log.info("Database bulkhead: {} concurrent connections ({} for streaming exports), {} acquire timeout",
+                            properties.getMaxConcurrent(), properties.getMaxConcurrentStreaming(), properties.getAcquireTimeout());
+                    return new BulkheadDataSource(dataSource, properties.getMaxConcurrent(),
+                            properties.getMaxConcurrentStreaming(), properties.getAcquireTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.db-bulkhead")
+public class DbBulkheadProperties {
+    private boolean enabled = false;
+    private int maxConcurrent = 8;                          // Connections handed out at once, across all pools
+    private int maxConcurrentStreaming = 2;                 // Of those, how many streaming exports may hold for a whole download
+    private Duration acquireTimeout = Duration.ofSeconds(5); // Longer waits fail with SQLTransientConnectionException
+}
@@ -0,0 +1,16 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.group-commit")
+public class GroupCommitProperties {
+    private boolean enabled = false;                    // Off: every saveQuote is its own transaction
+    private int maxBatchSize = 256;                     // Commit once this many quotes are waiting...
+    private Duration maxDelay = Duration.ofMillis(5);   // ...or once the oldest has waited this long
+    private int queueCapacity = 10_000;
+    private Duration enqueueTimeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,15 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.health")
+public class HealthProperties {
+    private Duration sampleInterval = Duration.ofSeconds(5);   // /health serves the latest sample, never samples itself
+    private Duration dbProbeTimeout = Duration.ofSeconds(2);   // A slower SELECT 1 counts as the database being down
+    private double maxHeapPercent = 90.0;
+    private double maxGcTimePercent = 25.0;                    // Share of the last interval spent in GC
+}
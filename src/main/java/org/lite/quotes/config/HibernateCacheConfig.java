@@ -0,0 +1,73 @@
+package org.lite.quotes.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Second-level cache for the read-mostly Person and Category entities plus a query cache for
+ * name lookups, held in Caffeine through JCache. Every region is created up front with its
+ * configured bound; Hibernate is told to fail on any other region instead of creating an unbounded one.
+ * <p>
+ * Hibernate invalidates these regions itself for entity writes and JPQL bulk deletes. Data loads
+ * insert through JDBC, so {@code BatchIngestionEngine} invalidates the written tables in the update
+ * timestamps region within each chunk transaction. Their inserts never change cached entities.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "quotes.hibernate-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class HibernateCacheConfig {
+
+    public static final String PERSON = "person";                         // Person by id
+    public static final String CATEGORY = "category";                     // Category by id
+    public static final String PERSON_QUERIES = "person-queries";         // Name lookups on Person
+    public static final String CATEGORY_QUERIES = "category-queries";     // All categories
+    public static final String DEFAULT_QUERIES = "default-query-results-region"; // Hibernate's region for queries without one
+    // Hibernate's own region; must outlive every query result, so it is never bounded or expired
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> REGION_NAMES = List.of(PERSON, CATEGORY, PERSON_QUERIES, CATEGORY_QUERIES, DEFAULT_QUERIES);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        for (String name : REGION_NAMES) {
+            HibernateCacheProperties.Region region = properties.getRegions().getOrDefault(name, properties.getDefaultRegion());
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            if (region.getExpireAfterWrite() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            }
+            cacheManager.createCache(name, configuration);
+        }
+        cacheManager.createCache(UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+        log.info("Hibernate second-level cache regions: {}", REGION_NAMES);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager,
+                                                                  HibernateCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatistics());
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/* Hibernate second-level and query cache regions; sizes are entries, a null expiry never expires */
+@Data
+@ConfigurationProperties(prefix = "quotes.hibernate-cache")
+public class HibernateCacheProperties {
+    private boolean enabled = true;
+    private boolean statistics = true;              // Hibernate statistics, needed for the hit ratios in /api/metrics
+    private Region defaultRegion = new Region();
+    private Map<String, Region> regions = new HashMap<>();
+
+    @Data
+    public static class Region {
+        private long maximumSize = 10000;
+        private Duration expireAfterWrite = Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,17 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.jwt")
+public class JwtDecoderProperties {
+    private String jwkSetFile;                                  // Local JWK set; when set, the jwk-set-uri is not fetched
+    private long decodedCacheMaxSize = 10_000;                  // Validated tokens kept to skip signature checks
+    private Duration decodedCacheMaxTtl = Duration.ofMinutes(5); // Entries never outlive the token's own exp
+    private Duration jwkCacheTtl = Duration.ofMinutes(15);
+    private Duration jwkRefreshAhead = Duration.ofMinutes(1);   // Refresh in the background this long before the TTL ends
+    private Duration jwkRefreshTimeout = Duration.ofSeconds(15);
+}
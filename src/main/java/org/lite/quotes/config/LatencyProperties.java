@@ -0,0 +1,14 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.latency")
+public class LatencyProperties {
+    private Duration window = Duration.ofMinutes(1);    // Percentiles and throughput cover this much recent time...
+    private int slots = 6;                              // ...split into this many slices that expire one at a time
+    private int maxRoutes = 200;                        // Further routes are folded into OTHER
+}
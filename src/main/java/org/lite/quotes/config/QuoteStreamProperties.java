@@ -0,0 +1,24 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.stream")
+public class QuoteStreamProperties {
+    private int maxSubscribers = 1000;
+    private int bufferSize = 256;                       // Quotes queued per subscriber before the overflow policy applies
+    private OverflowPolicy overflowPolicy = OverflowPolicy.COALESCE;
+    private int replayPageSize = 200;                   // Quotes per keyset query when a subscriber catches up
+    private int maxConcurrentReplays = 2;               // Distinct catch-up pages read at once; subscribers on the same page share a read
+    private Duration replayRetryDelay = Duration.ofSeconds(1); // Wait before retrying a catch-up whose read failed
+    private Duration heartbeat = Duration.ofSeconds(30); // Comment sent after this much silence, to detect dead clients
+    private Duration timeout = Duration.ofMinutes(30);  // Clients reconnect with Last-Event-ID afterwards
+
+    public enum OverflowPolicy {
+        COALESCE,       // Collapse the buffer into one catch-up from the database; lossless
+        DROP_OLDEST     // Discard the oldest buffered quote and tell the client how many were dropped; they are not resent
+    }
+}
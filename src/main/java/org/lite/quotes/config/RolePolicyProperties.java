@@ -0,0 +1,34 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "quotes.authorization")
+public class RolePolicyProperties {
+
+    // First matching rule wins; a request no rule matches is refused
+    private List<Rule> rules = new ArrayList<>(List.of(Rule.gatewayAdmin("/**")));
+
+    private long cacheMaxSize = 10_000;         // Tokens whose extracted roles are kept
+
+    @Data
+    public static class Rule {
+        private String pattern;                                         // Spring PathPattern, e.g. /api/data/**
+        private List<String> realmRoles = new ArrayList<>();            // All required in realm_access.roles
+        private Map<String, List<String>> clientRoles = new LinkedHashMap<>(); // All required in resource_access.<client>.roles
+
+        static Rule gatewayAdmin(String pattern) {
+            Rule rule = new Rule();
+            rule.setPattern(pattern);
+            rule.getRealmRoles().add("gateway_admin_realm");
+            rule.getClientRoles().put("linqra-gateway-client", new ArrayList<>(List.of("gateway_admin")));
+            return rule;
+        }
+    }
+}
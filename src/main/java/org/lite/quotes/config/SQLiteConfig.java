@@ -1,11 +1,112 @@
 package org.lite.quotes.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.sqlite.SQLiteConfig.JournalMode;
+import org.sqlite.SQLiteConfig.Pragma;
+import org.sqlite.SQLiteConfig.SynchronousMode;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
 
 @Configuration
 @EnableJpaRepositories(basePackages = "org.lite.quotes.repository")
 @EnableTransactionManagement
 public class SQLiteConfig {
+
+    /**
+     * SQLite allows one writer but many concurrent readers in WAL mode. Writes (and anything not in a
+     * read-only transaction) go to a single-connection writer pool; {@code @Transactional(readOnly = true)}
+     * work, which includes the finder methods of every Spring Data repository, goes to a read-only pool.
+     * <p>
+     * Needs {@code spring.jpa.open-in-view=false}: Hibernate holds the physical connection for the whole
+     * session, so an open-in-view session would keep whichever pool the first statement picked for the
+     * entire request, and later writes would hit the read-only connection (or reads the single writer).
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "sqlite.performance", name = "enabled", havingValue = "true")
+    @Slf4j
+    static class PerformanceProfile {
+
+        @Bean(name = "sqliteWriteDataSource")
+        HikariDataSource sqliteWriteDataSource(DataSourceProperties dataSourceProperties,
+                                               SQLitePerformanceProperties properties) {
+            org.sqlite.SQLiteConfig sqlite = baseConfig(properties);
+            sqlite.setJournalMode(JournalMode.valueOf(properties.getJournalMode().toUpperCase(Locale.ROOT)));
+
+            HikariConfig pool = new HikariConfig();
+            pool.setPoolName("sqlite-writer");
+            pool.setDataSource(sqliteDataSource(dataSourceProperties.getUrl(), sqlite));
+            pool.setMaximumPoolSize(1);
+            pool.setMinimumIdle(1);
+            log.info("SQLite writer pool: journal_mode={}, synchronous={}", properties.getJournalMode(), properties.getSynchronous());
+            return new HikariDataSource(pool);
+        }
+
+        @Bean(name = "sqliteReadDataSource")
+        HikariDataSource sqliteReadDataSource(DataSourceProperties dataSourceProperties,
+                                              SQLitePerformanceProperties properties,
+                                              @Qualifier("sqliteWriteDataSource") DataSource writeDataSource) throws SQLException {
+            // The writer creates the database file and switches it to WAL before any read-only connection opens it
+            try (Connection ignored = writeDataSource.getConnection()) {
+                log.debug("SQLite database initialized by writer pool");
+            }
+
+            org.sqlite.SQLiteConfig sqlite = baseConfig(properties);
+            sqlite.setReadOnly(true);
+
+            HikariConfig pool = new HikariConfig();
+            pool.setPoolName("sqlite-reader");
+            pool.setDataSource(sqliteDataSource(dataSourceProperties.getUrl(), sqlite));
+            pool.setMaximumPoolSize(properties.getReadPoolSize());
+            pool.setReadOnly(true);
+            log.info("SQLite read-only pool: {} connections", properties.getReadPoolSize());
+            return new HikariDataSource(pool);
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(@Qualifier("sqliteWriteDataSource") DataSource writeDataSource,
+                              @Qualifier("sqliteReadDataSource") DataSource readDataSource,
+                              @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+            if (openInView) {
+                log.warn("spring.jpa.open-in-view is enabled: requests will stay on the first SQLite pool they touch, "
+                        + "so writes after a read fail on the read-only connection. Set it to false with sqlite.performance.");
+            }
+            // The lazy proxy defers picking a pool until the transaction's read-only flag is known
+            LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(writeDataSource);
+            proxy.setReadOnlyDataSource(readDataSource);
+            return proxy;
+        }
+
+        private static org.sqlite.SQLiteConfig baseConfig(SQLitePerformanceProperties properties) {
+            org.sqlite.SQLiteConfig sqlite = new org.sqlite.SQLiteConfig();
+            sqlite.setSynchronous(SynchronousMode.valueOf(properties.getSynchronous().toUpperCase(Locale.ROOT)));
+            sqlite.setBusyTimeout((int) properties.getBusyTimeout().toMillis());
+            // Negative cache_size is in KiB rather than pages
+            sqlite.setCacheSize(-properties.getCacheSizeKb());
+            sqlite.setPragma(Pragma.MMAP_SIZE, String.valueOf(properties.getMmapSize()));
+            return sqlite;
+        }
+
+        private static SQLiteDataSource sqliteDataSource(String url, org.sqlite.SQLiteConfig sqlite) {
+            SQLiteDataSource dataSource = new SQLiteDataSource(sqlite);
+            dataSource.setUrl(url);
+            return dataSource;
+        }
+    }
 }
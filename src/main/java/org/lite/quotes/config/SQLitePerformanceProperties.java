@@ -0,0 +1,18 @@
+package org.lite.quotes.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sqlite.performance")
+public class SQLitePerformanceProperties {
+    private boolean enabled = false;                // Off: Spring Boot's single default datasource
+    private String journalMode = "WAL";             // WAL lets readers run while the writer commits
+    private String synchronous = "NORMAL";          // NORMAL is durable across app crashes in WAL mode
+    private long mmapSize = 256L * 1024 * 1024;     // Bytes of the database file to memory-map
+    private int cacheSizeKb = 64 * 1024;            // Page cache per connection
+    private Duration busyTimeout = Duration.ofSeconds(5);
+    private int readPoolSize = Runtime.getRuntime().availableProcessors();
+}
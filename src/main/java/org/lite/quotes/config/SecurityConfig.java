@@ -1,5 +1,16 @@
 package org.lite.quotes.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.lite.quotes.filter.JwtRoleValidationFilter;
@@ -16,6 +27,10 @@ import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.text.ParseException;
 
 @Configuration
 @EnableWebSecurity
@@ -27,14 +42,47 @@ public class SecurityConfig {
     private final JwtRoleValidationFilter jwtRoleValidationFilter;
 
     @Bean
-    JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties) {
-        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(properties.getJwt().getJwkSetUri()).build();
+    JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties, JwtDecoderProperties jwtProperties)
+            throws IOException, ParseException {
+        JWKSource<SecurityContext> jwkSource = jwkSource(properties, jwtProperties);
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are checked by the Spring validators below, as NimbusJwtDecoder's own builder does
+        processor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
         decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
                 // Skip issuer validation or validate against multiple issuers
                 token -> OAuth2TokenValidatorResult.success(),
                 new JwtTimestampValidator()
         ));
-        return decoder;
+        return new CachingJwtDecoder(decoder, jwtProperties.getDecodedCacheMaxSize(), jwtProperties.getDecodedCacheMaxTtl());
+    }
+
+    private JWKSource<SecurityContext> jwkSource(OAuth2ResourceServerProperties properties,
+                                                 JwtDecoderProperties jwtProperties) throws IOException, ParseException {
+        if (jwtProperties.getJwkSetFile() != null && !jwtProperties.getJwkSetFile().isBlank()) {
+            // Offline keys, e.g. for load tests against a locally signed token
+            log.info("Verifying JWTs against local JWK set {}", jwtProperties.getJwkSetFile());
+            return new ImmutableJWKSet<>(JWKSet.load(new File(jwtProperties.getJwkSetFile())));
+        }
+
+        // Cached keys are refreshed by a background task before they expire, so request threads
+        // only block on Keycloak for the very first fetch or when an unknown kid shows up
+        JWKSource<SecurityContext> jwkSource = JWKSourceBuilder
+                .<SecurityContext>create(URI.create(properties.getJwt().getJwkSetUri()).toURL())
+                .cache(jwtProperties.getJwkCacheTtl().toMillis(), jwtProperties.getJwkRefreshTimeout().toMillis())
+                .refreshAheadCache(jwtProperties.getJwkRefreshAhead().toMillis(), true)
+                .outageTolerant(true)
+                .build();
+        try {
+            jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+        } catch (KeySourceException e) {
+            // Not fatal: the first request retries the fetch
+            log.warn("Could not prefetch JWK set from {}: {}", properties.getJwt().getJwkSetUri(), e.getMessage());
+        }
+        return jwkSource;
     }
 
     @Bean
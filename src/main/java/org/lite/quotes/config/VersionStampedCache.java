@@ -0,0 +1,90 @@
+package org.lite.quotes.config;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.LongSupplier;
+
+/**
+ * Caffeine cache whose entries remember the dataset version they were read under and only count as
+ * hits while that version is still current.
+ * <p>
+ * After-commit eviction alone cannot stop a reader that loaded a row before the commit from putting it
+ * back after the eviction. The version moves only once the write has committed and the caches were
+ * evicted, so such an entry carries the old version and is dropped on its next lookup. Loads must
+ * therefore record the version before reading: {@code @Cacheable(sync = true)} does so through
+ * {@link #get(Object, Callable)}, and hand-written loads use {@link #version()} and
+ * {@link #put(Object, Object, long)}. A dropped stale entry still counts as a hit in Caffeine's statistics.
+ */
+public class VersionStampedCache extends CaffeineCache {
+
+    private final LongSupplier versions;
+
+    public VersionStampedCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                               boolean allowNullValues, LongSupplier versions) {
+        super(name, cache, allowNullValues);
+        this.versions = versions;
+    }
+
+    /* The version to stamp on values read from now on */
+    public long version() {
+        return versions.getAsLong();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object stored = getNativeCache().getIfPresent(key);
+        if (!(stored instanceof Stamped stamped)) {
+            return null;
+        }
+        if (stamped.version != versions.getAsLong()) {
+            // Conditional, so a fresh entry put concurrently is kept
+            getNativeCache().asMap().remove(key, stamped);
+            return null;
+        }
+        return stamped.value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        long version = version();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value, version);
+        return value;
+    }
+
+    /* Only for values read after the latest committed write; loads should use put(key, value, version) */
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, version());
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    /* Stores a value read under the given version; values already outdated are not stored at all */
+    public void put(Object key, Object value, long version) {
+        if (version == versions.getAsLong()) {
+            getNativeCache().put(key, new Stamped(toStoreValue(value), version));
+        }
+    }
+
+    private record Stamped(Object value, long version) {
+    }
+}
@@ -0,0 +1,25 @@
+package org.lite.quotes.controller;
+
+import org.lite.quotes.model.IdBatchRequest;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/* Validates the id list of a batch lookup request */
+final class BatchIds {
+
+    static final int MAX_IDS = 1000;
+
+    private BatchIds() {
+    }
+
+    /* Distinct ids in request order, or null if the batch is empty, too large or contains null */
+    static List<Long> distinct(IdBatchRequest request) {
+        if (request == null || request.getIds() == null || request.getIds().isEmpty()
+                || request.getIds().contains(null)) {
+            return null;
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(request.getIds()));
+        return ids.size() > MAX_IDS ? null : ids;
+    }
+}
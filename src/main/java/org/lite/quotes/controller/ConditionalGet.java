@@ -0,0 +1,119 @@
+package org.lite.quotes.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.lite.quotes.config.CacheConfig;
+import org.lite.quotes.service.DatasetVersion;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for responses derived from the dataset. The ETag is the resource key plus the
+ * dataset version, so a matching If-None-Match is answered with 304 before any data is read.
+ * <p>
+ * Bodies are serialized once per version and, when {@code server.compression} is enabled and the
+ * body reaches its {@code min-response-size}, compressed once per version and negotiated coding.
+ * Compressed variants carry the weak form of the ETag, which still revalidates to 304.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGet {
+
+    // Clients may keep the body but must revalidate, which is a cheap 304 while nothing changed
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final DatasetVersion datasetVersion;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final ServerProperties serverProperties;
+
+    /**
+     * Returns 304 if the client's copy is current, otherwise 200 with the supplied body as JSON, or 404 if it is null.
+     * A byte[] body is taken to be serialized JSON already.
+     * The version is read before the body, whose sources only serve data at least as new as the current
+     * version (see ResponseBodyCache), so a concurrent write can only make the ETag older, never newer.
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, String resource, Supplier<?> body) {
+        long version = datasetVersion.current();
+        String etag = "\"" + resource + "-" + version + "\"";
+
+        // No Last-Modified: HTTP dates have one-second precision, so If-Modified-Since would miss writes within the second
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        byte[] json = serialized(new VariantKey(resource, version, ContentCoding.IDENTITY), body);
+        if (json == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        ContentCoding coding = compressible(json)
+                ? ContentCoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                : ContentCoding.IDENTITY;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (coding == ContentCoding.IDENTITY) {
+            return response.eTag(etag).body(json);
+        }
+        byte[] encoded = variants().get(new VariantKey(resource, version, coding), () -> coding.encode(json));
+        return response.eTag("W/" + etag)
+                .header(HttpHeaders.CONTENT_ENCODING, coding.token())
+                .body(encoded);
+    }
+
+    private byte[] serialized(VariantKey key, Supplier<?> body) {
+        Cache variants = variants();
+        Cache.ValueWrapper cached = variants.get(key);
+        if (cached != null) {
+            return (byte[]) cached.get();
+        }
+        Object value = body.get();
+        if (value instanceof byte[] bytes) {
+            // Already cached by whoever produced it; keeping a second copy would only cost memory
+            return bytes;
+        }
+        byte[] json = value == null ? null : serialize(value);
+        variants.put(key, json);
+        return json;
+    }
+
+    private boolean compressible(byte[] json) {
+        Compression compression = serverProperties.getCompression();
+        return compression.getEnabled() && json.length >= compression.getMinResponseSize().toBytes();
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private Cache variants() {
+        Cache cache = cacheManager.getCache(CacheConfig.RESPONSE_VARIANTS);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CacheConfig.RESPONSE_VARIANTS + " is not configured");
+        }
+        return cache;
+    }
+
+    private record VariantKey(String resource, long version, ContentCoding coding) {
+    }
+}
@@ -0,0 +1,112 @@
+package org.lite.quotes.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings the service can precompress with the JDK alone, in order of preference.
+ * Brotli would need a native encoder, so it is not offered.
+ */
+enum ContentCoding {
+    GZIP("gzip"),
+    DEFLATE("deflate"),
+    IDENTITY("identity");
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    String token() {
+        return token;
+    }
+
+    /**
+     * Picks the preferred coding the client accepts according to Accept-Encoding (RFC 9110 12.5.3):
+     * a coding is acceptable if it or {@code *} is listed with a non-zero q-value.
+     * Falls back to identity, which is always allowed here.
+     */
+    static ContentCoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        ContentCoding best = IDENTITY;
+        float bestQuality = 0;
+        for (ContentCoding coding : new ContentCoding[]{GZIP, DEFLATE}) {
+            float quality = quality(acceptEncoding, coding.token);
+            if (quality > bestQuality) {
+                best = coding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    byte[] encode(byte[] body) {
+        if (this == IDENTITY) {
+            return body;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (DeflaterOutputStream out = this == GZIP ? new BestGzipOutputStream(buffer) : new BestDeflaterOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static float quality(String acceptEncoding, String token) {
+        float wildcard = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.trim().split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            float q = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Float.parseFloat(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (name.equals(token)) {
+                return q;
+            }
+            if (name.equals("*")) {
+                wildcard = q;
+            }
+        }
+        return wildcard;
+    }
+
+    // Every variant is compressed once per dataset version, so the strongest level is affordable
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+        BestGzipOutputStream(ByteArrayOutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    private static final class BestDeflaterOutputStream extends DeflaterOutputStream {
+        BestDeflaterOutputStream(ByteArrayOutputStream out) {
+            super(out, new Deflater(Deflater.BEST_COMPRESSION));
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();    // Not the stream's default deflater, so close() leaves it to us
+            }
+        }
+    }
+}
@@ -5,11 +5,17 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.model.ErrorResponse;
+import org.lite.quotes.model.IngestionResult;
 import org.lite.quotes.service.DataLoaderService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/data")
 @RequiredArgsConstructor
@@ -17,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Data Loader", description = "APIs for loading initial data")
 public class DataLoaderController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final DataLoaderService dataLoaderService;
 
     @Operation(summary = "Load people data from CSV", description = "Loads initial people data from the CSV file. Use force=true to delete existing data and reload.")
@@ -52,4 +60,28 @@ public class DataLoaderController {
             return ResponseEntity.internalServerError().body("Failed to load categories data: " + e.getMessage());
         }
     }
+
+    @Operation(summary = "Bulk import quotes",
+            description = "Streams quotes from the request body into the database in batched transactions. " +
+                    "Accepts text/csv with a header row (author, quote_text, source, year) or application/x-ndjson " +
+                    "objects with author, quoteText, source and year. Authors are matched by full name.")
+    @PostMapping(value = "/import/quotes",
+            consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importQuotes(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                          InputStream body) {
+        log.info("Received request to import quotes as {}", contentType);
+        try {
+            IngestionResult result = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    ? dataLoaderService.importQuotesFromNdjson(body)
+                    : dataLoaderService.importQuotesFromCsv(body);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            String errorMessage = "Failed to import quotes: " + e.getMessage();
+            log.error(errorMessage, e);
+            return ResponseEntity.internalServerError()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new ErrorResponse(errorMessage, "IMPORT_FAILED", LocalDateTime.now().toString(), "/api/data/import/quotes"));
+        }
+    }
 } 
\ No newline at end of file
@@ -7,8 +7,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.lite.quotes.model.HealthStatus;
+import org.lite.quotes.service.HealthSampler;
+import org.lite.quotes.service.HealthSampler.HealthSnapshot;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -16,19 +19,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
-import java.lang.management.OperatingSystemMXBean;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 
 @Tag(name = "Health", description = "Health check APIs")
 @RestController
 @Slf4j
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final HealthSampler healthSampler;
+
     @Value("${spring.application.name}")
     private String serviceId;
 
@@ -36,7 +37,7 @@ public class HealthController {
 
     @Operation(
             summary = "Get service health status",
-            description = "Retrieves detailed health information including memory usage, CPU load, and uptime"
+            description = "Retrieves the latest background health sample: memory, CPU, GC, threads, connection pools, a timed database probe, request latency and uptime"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -54,7 +55,18 @@ public class HealthController {
                         "metrics": {
                             "cpu": 0.75,
                             "memory": 65.5,
-                            "responseTime": 0.0
+                            "gc.timePercent": 0.4,
+                            "threads.live": 42.0,
+                            "pool.sqlite-writer.saturation": 100.0,
+                            "db.up": 1.0,
+                            "db.probeMillis": 0.21,
+                            "responseTime": 12.5,
+                            "throughput": 40.2,
+                            "latency.GET /api/people/{id}.p50": 3.1,
+                            "latency.GET /api/people/{id}.p95": 11.8,
+                            "latency.GET /api/people/{id}.p99": 24.0,
+                            "latency.GET /api/people/{id}.max": 31.7,
+                            "latency.GET /api/people/{id}.rps": 18.6
                         }
                     }
                     """)
@@ -74,74 +86,20 @@ public class HealthController {
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     public ResponseEntity<HealthStatus> getHealth() {
+        // Only reads the latest sample; see HealthSampler for what is measured and when it is DOWN
+        HealthSnapshot snapshot = healthSampler.current();
+
         HealthStatus status = new HealthStatus();
         status.setServiceId(serviceId);
-
-        try {
-            // Get system metrics
-            OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
-            MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
-
-            // Calculate uptime
-            Duration uptime = Duration.between(startTime, Instant.now());
-
-            // Calculate memory usage
-            long usedMemory = memoryBean.getHeapMemoryUsage().getUsed();
-            long maxMemory = memoryBean.getHeapMemoryUsage().getMax();
-            double memoryUsage = ((double) usedMemory / maxMemory) * 100;
-
-            // Set health status details
-            boolean healthy = isHealthy();
-            status.setStatus(healthy ? "UP" : "DOWN");
-            status.setUptime(formatUptime(uptime));
-            status.setTimestamp(Instant.now());
-
-            // Add detailed metrics
-            Map<String, Double> metrics = new HashMap<>();
-            metrics.put("cpu", osBean.getSystemLoadAverage());
-            metrics.put("memory", Math.round(memoryUsage * 100.0) / 100.0); // Round to 2 decimal places
-            metrics.put("responseTime", measureResponseTime());
-            status.setMetrics(metrics);
-
-            return ResponseEntity
-                    .status(healthy ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(status);
-
-        } catch (Exception e) {
-            log.error("Error getting health status: {}", e.getMessage());
-            status.setStatus("DOWN");
-            status.setTimestamp(Instant.now());
-            status.setMetrics(Map.of(
-                    "error", 1.0,
-                    "message", 0.0
-            ));
-            return ResponseEntity
-                    .status(HttpStatus.SERVICE_UNAVAILABLE)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(status);
-        }
-    }
-
-    private boolean isHealthy() {
-        try {
-            OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
-            MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
-
-            // Check memory usage
-            long usedMemory = memoryBean.getHeapMemoryUsage().getUsed();
-            long maxMemory = memoryBean.getHeapMemoryUsage().getMax();
-            double memoryUsage = ((double) usedMemory / maxMemory) * 100;
-
-            // Check CPU usage
-            double cpuLoad = osBean.getSystemLoadAverage();
-
-            // Define thresholds (could be made configurable)
-            return memoryUsage < 90.0 && cpuLoad >= 0;
-        } catch (Exception e) {
-            log.error("Error checking service health: {}", e.getMessage());
-            return false;
-        }
+        status.setStatus(snapshot.healthy() ? "UP" : "DOWN");
+        status.setUptime(formatUptime(Duration.between(startTime, Instant.now())));
+        status.setTimestamp(snapshot.sampledAt());
+        status.setMetrics(snapshot.metrics());
+
+        return ResponseEntity
+                .status(snapshot.healthy() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(status);
     }
 
     private String formatUptime(Duration uptime) {
@@ -152,12 +110,4 @@ public class HealthController {
 
         return String.format("%dd %dh %dm %ds", days, hours, minutes, seconds);
     }
-
-    private double measureResponseTime() {
-        long start = System.nanoTime();
-        // Perform a simple operation to measure baseline response time
-        Runtime.getRuntime().freeMemory();
-        long end = System.nanoTime();
-        return (end - start) / 1_000_000.0; // Convert to milliseconds
-    }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package org.lite.quotes.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.lite.quotes.config.BulkheadDataSource;
+import org.lite.quotes.config.CacheConfig;
+import org.lite.quotes.config.CachingJwtDecoder;
+import org.lite.quotes.config.HibernateCacheConfig;
+import org.lite.quotes.filter.ConcurrencyLimitFilter;
+import org.lite.quotes.filter.LatencyRecorder;
+import org.lite.quotes.model.BulkheadStatistics;
+import org.lite.quotes.model.CacheStatistics;
+import org.lite.quotes.model.ConcurrencyLimitStatistics;
+import org.lite.quotes.model.HibernateCacheStatistics;
+import org.lite.quotes.model.LatencyStatistics;
+import org.lite.quotes.model.QuoteStreamStatistics;
+import org.lite.quotes.service.QuoteStreamPublisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@Tag(name = "Metrics", description = "Runtime statistics of the service's internals")
+public class MetricsController {
+
+    private final CacheManager cacheManager;
+    private final JwtDecoder jwtDecoder;
+    private final DataSource dataSource;
+    private final LatencyRecorder latencyRecorder;
+    private final ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter;
+    private final EntityManagerFactory entityManagerFactory;
+    private final QuoteStreamPublisher quoteStreamPublisher;
+
+    @Operation(summary = "Cache statistics", description = "Size, hit/miss counts and evictions of every service-tier cache")
+    @GetMapping(value = "/caches", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, CacheStatistics>> getCacheStatistics() {
+        Map<String, CacheStatistics> statistics = new LinkedHashMap<>();
+        for (String name : CacheConfig.CACHE_NAMES) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                statistics.put(name, toStatistics(cache.getNativeCache()));
+            }
+        }
+        return ResponseEntity.ok(statistics);
+    }
+
+    @Operation(summary = "Hibernate cache statistics", description = "Second-level entity cache and query cache hit ratios, overall and per region")
+    @GetMapping(value = "/hibernate-cache", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HibernateCacheStatistics> getHibernateCacheStatistics() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!stats.isStatisticsEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, HibernateCacheStatistics.RegionStatistics> regions = new LinkedHashMap<>();
+        for (String name : HibernateCacheConfig.REGION_NAMES) {
+            CacheRegionStatistics region = stats.getCacheRegionStatistics(name);
+            if (region != null) {
+                long size = region.getElementCountInMemory();
+                regions.put(name, new HibernateCacheStatistics.RegionStatistics(
+                        size < 0 ? -1 : size,
+                        region.getHitCount(),
+                        region.getMissCount(),
+                        region.getPutCount(),
+                        hitRate(region.getHitCount(), region.getMissCount())));
+            }
+        }
+        return ResponseEntity.ok(new HibernateCacheStatistics(
+                stats.getSecondLevelCacheHitCount(),
+                stats.getSecondLevelCacheMissCount(),
+                hitRate(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount()),
+                stats.getQueryCacheHitCount(),
+                stats.getQueryCacheMissCount(),
+                hitRate(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()),
+                stats.getEntityLoadCount(),
+                regions));
+    }
+
+    @Operation(summary = "JWT decode cache statistics", description = "How often a bearer token was served from the validated-token cache instead of being verified again")
+    @GetMapping(value = "/jwt-cache", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CacheStatistics> getJwtCacheStatistics() {
+        if (jwtDecoder instanceof CachingJwtDecoder cachingDecoder) {
+            return ResponseEntity.ok(toStatistics(cachingDecoder.getCache()));
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Database bulkhead statistics", description = "Connections in use, callers waiting for a permit, and how many acquisitions queued or were rejected")
+    @GetMapping(value = "/db-bulkhead", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkheadStatistics> getDbBulkheadStatistics() {
+        if (dataSource instanceof BulkheadDataSource bulkhead) {
+            return ResponseEntity.ok(bulkhead.getStatistics());
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Request latency", description = "p50/p95/p99/max latency in milliseconds and throughput per route over the rolling window, plus ALL for every request")
+    @GetMapping(value = "/latency", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, LatencyStatistics>> getLatencyStatistics() {
+        return ResponseEntity.ok(latencyRecorder.getStatistics());
+    }
+
+    @Operation(summary = "Concurrency limit", description = "Current adaptive limit, requests in flight, admitted and shed counts, and the latencies the limit is derived from")
+    @GetMapping(value = "/concurrency-limit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ConcurrencyLimitStatistics> getConcurrencyLimitStatistics() {
+        ConcurrencyLimitFilter filter = concurrencyLimitFilter.getIfAvailable();
+        if (filter == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(filter.getLimiter().getStatistics());
+    }
+
+    @Operation(summary = "Quote stream statistics", description = "SSE subscribers, quotes published and delivered, and how often slow consumers were coalesced or had quotes dropped")
+    @GetMapping(value = "/quote-stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuoteStreamStatistics> getQuoteStreamStatistics() {
+        return ResponseEntity.ok(quoteStreamPublisher.getStatistics());
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    private static CacheStatistics toStatistics(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount());
+    }
+}
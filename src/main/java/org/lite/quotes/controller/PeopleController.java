@@ -1,6 +1,9 @@
 package org.lite.quotes.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,16 +13,27 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.lite.quotes.entity.Category;
 import org.lite.quotes.entity.Person;
+import org.lite.quotes.model.CursorPage;
 import org.lite.quotes.model.ErrorResponse;
+import org.lite.quotes.model.IdBatchRequest;
+import org.lite.quotes.model.PeopleBatchResponse;
 import org.lite.quotes.model.PersonResponse;
-import org.lite.quotes.repository.PersonRepository;
+import org.lite.quotes.model.PersonSuggestion;
+import org.lite.quotes.service.PersonNameIndex;
+import org.lite.quotes.service.PersonSamplingIndex;
+import org.lite.quotes.service.QuoteService;
+import org.lite.quotes.service.ResponseBodyCache;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @Slf4j
@@ -28,10 +42,41 @@ import java.util.Random;
 @Tag(name = "People", description = "APIs for managing people information")
 public class PeopleController {
     
-    private final PersonRepository personRepository;
-    private final Random random = new Random();
+    private static final int MAX_RANDOM_COUNT = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SUGGEST_LIMIT = 50;
 
-    @Operation(summary = "Get random person", description = "Returns a random person's information from the database")
+    private final PersonSamplingIndex samplingIndex;
+    private final PersonNameIndex nameIndex;
+    private final QuoteService quoteService;
+    private final ObjectMapper objectMapper;
+    private final ConditionalGet conditionalGet;
+    private final ResponseBodyCache responseBodyCache;
+
+    @Operation(summary = "List people", description = "Keyset-paginated list of people ordered by id. Pass nextCursor from the previous page as after.")
+    @ApiResponse(responseCode = "200", description = "One page of people",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CursorPage.class)))
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPeople(
+            @Parameter(description = "Return people with an id greater than this cursor", example = "0")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (1-" + MAX_PAGE_SIZE + ")", example = "100")
+            @RequestParam(defaultValue = "100") int limit,
+            WebRequest request) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return conditionalGet.respond(request, "people:" + after + ":" + limit,
+                () -> quoteService.getPeoplePage(after, limit));
+    }
+
+    @Operation(summary = "Export all people", description = "Streams every person as newline-delimited JSON without loading the table into memory")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPeople() {
+        return NdjsonStreams.response(objectMapper, quoteService::exportPeople);
+    }
+
+    @Operation(summary = "Get random person", description = "Returns a random person's information from the database, optionally filtered by category and nationality")
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
@@ -92,24 +137,84 @@ public class PeopleController {
         )
     })
     @GetMapping(value = "/random", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PersonResponse> getRandomPerson() {
-        List<Person> allPeople = personRepository.findAll();
-        
-        if (allPeople.isEmpty()) {
+    public ResponseEntity<byte[]> getRandomPerson(
+            @Parameter(description = "Only pick people in this category", example = "Scientists")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "Only pick people of this nationality", example = "German")
+            @RequestParam(required = false) String nationality) {
+        long[] ids = samplingIndex.sample(category, nationality, 1);
+        if (ids.length == 0) {
             return ResponseEntity.notFound().build();
         }
-        
-        Person randomPerson = allPeople.get(random.nextInt(allPeople.size()));
-        PersonResponse response = new PersonResponse(
-            randomPerson.getFullName(),
-            randomPerson.getKnownAs(),
-            randomPerson.getBirthYear(),
-            randomPerson.getDeathYear(),
-            randomPerson.getNationality(),
-            randomPerson.getDescription(),
-            randomPerson.getCategory()
-        );
-        
-        return ResponseEntity.ok(response);
+
+        // Pre-serialized PersonResponse bytes, written without mapping or Jackson
+        byte[] person = responseBodyCache.person(ids[0]);
+        return person == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(person);
+    }
+
+    @Operation(summary = "Get several random people", description = "Returns up to count distinct random people, optionally filtered by category and nationality")
+    @ApiResponse(responseCode = "200", description = "Random people",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = PersonResponse.class))))
+    @GetMapping(value = "/random", params = "count", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getRandomPeople(
+            @Parameter(description = "Only pick people in this category", example = "Scientists")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "Only pick people of this nationality", example = "German")
+            @RequestParam(required = false) String nationality,
+            @Parameter(description = "Number of distinct people to return (1-" + MAX_RANDOM_COUNT + ")", example = "5")
+            @RequestParam int count) {
+        if (count < 1 || count > MAX_RANDOM_COUNT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        long[] ids = samplingIndex.sample(category, nationality, count);
+        if (ids.length == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(responseBodyCache.people(ids));
+    }
+
+    @Operation(summary = "Suggest people by name", description = "Ranked autocomplete over full and known-as names: exact, prefix and word-prefix matches first, then substring matches of three or more characters. Served from memory.")
+    @GetMapping(value = "/suggest", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PersonSuggestion>> suggestPeople(
+            @Parameter(description = "Typed name fragment; case and accents are ignored", example = "ein")
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of suggestions (1-" + MAX_SUGGEST_LIMIT + ")", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        if (query.isBlank() || limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(nameIndex.suggest(query, limit));
+    }
+
+    @Operation(summary = "Get person by id", description = "Returns one person's information")
+    @ApiResponse(responseCode = "200", description = "The person",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PersonResponse.class)))
+    @GetMapping(value = "/{id:\\d+}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPerson(@PathVariable Long id, WebRequest request) {
+        return conditionalGet.respond(request, "person:" + id, () -> responseBodyCache.person(id));
+    }
+
+    @Operation(summary = "Get people by ids", description = "Looks up as many as " + BatchIds.MAX_IDS + " people in one call and one query, returned in request order. Ids without a person are listed under missing.")
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PeopleBatchResponse> getPeopleBatch(@RequestBody IdBatchRequest request) {
+        List<Long> ids = BatchIds.distinct(request);
+        if (ids == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Person> people = quoteService.getPeopleByIds(ids);
+        Set<Long> found = people.stream().map(Person::getId).collect(Collectors.toSet());
+        List<Long> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+        return ResponseEntity.ok(new PeopleBatchResponse(people, missing));
+    }
+
+    @Operation(summary = "List categories", description = "Returns every category people are grouped into")
+    @ApiResponse(responseCode = "200", description = "Every category",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = Category.class))))
+    @GetMapping(value = "/categories", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCategories(WebRequest request) {
+        return conditionalGet.respond(request, "categories", quoteService::getAllCategories);
     }
 } 
\ No newline at end of file
@@ -1,13 +1,155 @@
 package org.lite.quotes.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.entity.Quote;
+import org.lite.quotes.model.CursorPage;
+import org.lite.quotes.model.IdBatchRequest;
+import org.lite.quotes.model.PersonQuotes;
+import org.lite.quotes.model.QuoteSearchResponse;
+import org.lite.quotes.model.QuoteWithAuthor;
+import org.lite.quotes.service.QuoteService;
+import org.lite.quotes.service.QuoteStreamPublisher;
+import org.lite.quotes.service.ResponseBodyCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @Slf4j
 @RequestMapping("/api/quotes")
+@RequiredArgsConstructor
 @Tag(name = "Quotes", description = "APIs for managing quotes information")
 public class QuotesController {
-    // Ready for future quote-related endpoints
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final QuoteService quoteService;
+    private final ObjectMapper objectMapper;
+    private final ConditionalGet conditionalGet;
+    private final ResponseBodyCache responseBodyCache;
+    private final QuoteStreamPublisher quoteStreamPublisher;
+
+    @Operation(summary = "List quotes", description = "Keyset-paginated list of quotes ordered by id, optionally for one person. Pass nextCursor from the previous page as after.")
+    @ApiResponse(responseCode = "200", description = "One page of quotes",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CursorPage.class)))
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getQuotes(
+            @Parameter(description = "Only return quotes by this person", example = "1")
+            @RequestParam(required = false) Long personId,
+            @Parameter(description = "Return quotes with an id greater than this cursor", example = "0")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (1-" + MAX_PAGE_SIZE + ")", example = "100")
+            @RequestParam(defaultValue = "100") int limit,
+            WebRequest request) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return conditionalGet.respond(request, "quotes:" + personId + ":" + after + ":" + limit,
+                () -> quoteService.getQuotesPage(personId, after, limit));
+    }
+
+    @Operation(summary = "Get quotes by person", description = "Returns every quote of one person")
+    @ApiResponse(responseCode = "200", description = "The person's quotes",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = Quote.class))))
+    @GetMapping(value = "/person/{personId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getQuotesByPerson(@PathVariable Long personId, WebRequest request) {
+        return conditionalGet.respond(request, "quotes-by-person:" + personId,
+                () -> responseBodyCache.quotesByPerson(personId));
+    }
+
+    @Operation(summary = "Get quotes for many people", description = "Every quote of up to " + BatchIds.MAX_IDS + " people, grouped by person in request order, read with one query. Unknown ids get an empty list.")
+    @PostMapping(value = "/by-people", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PersonQuotes>> getQuotesByPeople(@RequestBody IdBatchRequest request) {
+        List<Long> personIds = BatchIds.distinct(request);
+        if (personIds == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<PersonQuotes> grouped = quoteService.getQuotesByPersonIds(personIds).entrySet().stream()
+                .map(entry -> new PersonQuotes(entry.getKey(), entry.getValue()))
+                .toList();
+        return ResponseEntity.ok(grouped);
+    }
+
+    @Operation(summary = "List quotes with authors", description = "Keyset-paginated quotes ordered by id, each with an embedded author summary. Reads only the needed columns in one query.")
+    @ApiResponse(responseCode = "200", description = "One page of quotes with authors",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CursorPage.class)))
+    @GetMapping(value = "/with-author", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getQuotesWithAuthor(
+            @Parameter(description = "Only return quotes by this person", example = "1")
+            @RequestParam(required = false) Long personId,
+            @Parameter(description = "Return quotes with an id greater than this cursor", example = "0")
+            @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (1-" + MAX_PAGE_SIZE + ")", example = "100")
+            @RequestParam(defaultValue = "100") int limit,
+            WebRequest request) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return conditionalGet.respond(request, "quotes-with-author:" + personId + ":" + after + ":" + limit,
+                () -> quoteService.getQuotesWithAuthorPage(personId, after, limit));
+    }
+
+    @Operation(summary = "Get quotes by person with author", description = "Returns every quote of one person with an embedded author summary")
+    @ApiResponse(responseCode = "200", description = "The person's quotes with author",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = QuoteWithAuthor.class))))
+    @GetMapping(value = "/person/{personId}/with-author", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getQuotesWithAuthorByPerson(@PathVariable Long personId, WebRequest request) {
+        return conditionalGet.respond(request, "quotes-with-author-by-person:" + personId,
+                () -> quoteService.getQuotesWithAuthorByPersonId(personId));
+    }
+
+    @Operation(summary = "Export quotes", description = "Streams quotes, optionally for one person, as newline-delimited JSON without loading them into memory")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportQuotes(
+            @Parameter(description = "Only export quotes by this person", example = "1")
+            @RequestParam(required = false) Long personId) {
+        return NdjsonStreams.<Quote>response(objectMapper, sink -> quoteService.exportQuotes(personId, sink));
+    }
+
+    @Operation(summary = "Stream new quotes", description = "Server-Sent Events feed of quotes as they are committed, with author summaries. Event ids are quote ids: reconnect with Last-Event-ID (or after) to receive everything missed since. A dropped event reports quotes discarded for a slow consumer.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamQuotes(
+            @Parameter(description = "Resume after this quote id; set automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @Parameter(description = "Resume after this quote id when the Last-Event-ID header cannot be set", example = "0")
+            @RequestParam(required = false) Long after) {
+        SseEmitter emitter = quoteStreamPublisher.subscribe(lastEventId != null ? lastEventId : after);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    @Operation(summary = "Full-text quote search", description = "Tokenized multi-term search over quote text, ranked by BM25 relevance")
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<QuoteSearchResponse> searchQuotes(
+            @Parameter(description = "Search terms; quotes matching more of them rank higher", example = "imagination knowledge")
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of hits to return (1-" + MAX_SEARCH_LIMIT + ")", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Number of ranked hits to skip", example = "0")
+            @RequestParam(defaultValue = "0") int offset) {
+        if (query.isBlank() || limit < 1 || limit > MAX_SEARCH_LIMIT || offset < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(quoteService.searchQuotes(query, limit, offset));
+    }
 }
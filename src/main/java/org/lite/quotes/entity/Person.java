@@ -2,10 +2,15 @@ package org.lite.quotes.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.lite.quotes.config.HibernateCacheConfig;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PERSON)
 @Table(name = "people")
 public class Person {
     @Id
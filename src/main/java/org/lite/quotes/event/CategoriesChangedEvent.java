@@ -0,0 +1,9 @@
+package org.lite.quotes.event;
+
+import lombok.Value;
+
+/* Published after categories were loaded from CSV */
+@Value
+public class CategoriesChangedEvent {
+    int inserted;
+}
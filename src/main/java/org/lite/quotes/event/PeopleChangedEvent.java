@@ -0,0 +1,12 @@
+package org.lite.quotes.event;
+
+import lombok.Value;
+
+/**
+ * Published whenever rows in the people table are inserted or deleted, e.g. by a CSV (re)load.
+ * In-memory views over people rebuild themselves from the database when they receive it.
+ */
+@Value
+public class PeopleChangedEvent {
+    boolean reload;   // true when existing rows were deleted before loading
+}
@@ -0,0 +1,13 @@
+package org.lite.quotes.event;
+
+import lombok.Value;
+import org.lite.quotes.entity.Quote;
+
+/**
+ * Published by {@code QuoteService.saveQuote}. Listeners that keep derived state should use
+ * {@code @TransactionalEventListener} so they only see quotes that were actually committed.
+ */
+@Value
+public class QuoteSavedEvent {
+    Quote quote;
+}
@@ -0,0 +1,12 @@
+package org.lite.quotes.event;
+
+import lombok.Value;
+
+/**
+ * Published after a bulk quote import wrote rows directly through JDBC. Unlike
+ * {@link QuoteSavedEvent} it carries no entities; listeners re-read what they need.
+ */
+@Value
+public class QuotesImportedEvent {
+    int inserted;
+}
@@ -0,0 +1,113 @@
+package org.lite.quotes.filter;
+
+import org.lite.quotes.config.ConcurrencyLimitProperties;
+import org.lite.quotes.model.ConcurrencyLimitStatistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient concurrency limit: compares the recent average latency with a slowly moving baseline.
+ * While latency stays within {@code rtt-tolerance} of the baseline the limit grows by about the square
+ * root of itself per window; once requests start queueing and latency rises, the limit shrinks by the
+ * ratio (at most halving per window). Growth only happens when at least half the limit is in use,
+ * so an idle service does not inflate it. All state is updated with atomics; one thread per window
+ * recomputes the limit.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int BASELINE_WINDOWS = 600;
+
+    private final ConcurrencyLimitProperties properties;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowEnd;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+    private volatile double baselineRttNanos;       // Written only by the thread that closes a window
+    private volatile double recentRttNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+        this.limit = properties.getInitialLimit();
+    }
+
+    /* Admits the request if fewer than limit * headroom are in flight; pair every true with release() */
+    public boolean tryAcquire(double headroom) {
+        int max = (int) (limit * headroom);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                admitted.increment();
+                return true;
+            }
+        }
+    }
+
+    /* rttNanos < 0 releases without contributing a latency sample */
+    public void release(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (rttNanos < 0) {
+            return;
+        }
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+
+        long now = System.nanoTime();
+        long end = windowEnd.get();
+        if (now - end >= 0 && windowSamples.sum() >= properties.getMinWindowSamples()
+                && windowEnd.compareAndSet(end, now + windowNanos)) {
+            long samples = windowSamples.sumThenReset();
+            long total = windowRttNanos.sumThenReset();
+            if (samples > 0) {
+                update((double) total / samples, inFlightBefore);
+            }
+        }
+    }
+
+    public ConcurrencyLimitStatistics getStatistics() {
+        return new ConcurrencyLimitStatistics(
+                (int) limit,
+                inFlight.get(),
+                admitted.sum(),
+                rejected.sum(),
+                baselineRttNanos / 1_000_000.0,
+                recentRttNanos / 1_000_000.0);
+    }
+
+    private void update(double rtt, int inFlightNow) {
+        recentRttNanos = rtt;
+        double baseline = baselineRttNanos;
+        if (baseline == 0) {
+            baseline = rtt;
+        } else {
+            baseline += (rtt - baseline) * 2.0 / (BASELINE_WINDOWS + 1);
+            // Recover quickly from a baseline learned during a slow period
+            if (baseline / rtt > 2) {
+                baseline *= 0.95;
+            }
+        }
+        baselineRttNanos = baseline;
+
+        double current = limit;
+        if (inFlightNow < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * baseline / rtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        double next = current * (1 - properties.getSmoothing()) + estimate * properties.getSmoothing();
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), next));
+    }
+}
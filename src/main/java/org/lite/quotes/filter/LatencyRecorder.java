@@ -0,0 +1,90 @@
+package org.lite.quotes.filter;
+
+import org.lite.quotes.config.LatencyProperties;
+import org.lite.quotes.model.LatencyStatistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolling latency histograms per route (HTTP method plus the matched handler pattern) and one for all
+ * requests together. Recording is a couple of atomic increments; percentiles are computed on read.
+ */
+@Component
+public class LatencyRecorder {
+
+    public static final String ALL_ROUTES = "ALL";
+    public static final String OTHER_ROUTES = "OTHER";
+
+    private final LatencyProperties properties;
+    private final Map<String, RollingLatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final RollingLatencyHistogram all;
+
+    public LatencyRecorder(LatencyProperties properties) {
+        this.properties = properties;
+        this.all = newHistogram();
+    }
+
+    public void record(String route, long nanos) {
+        long now = System.nanoTime();
+        all.record(nanos, now);
+        histogramFor(route).record(nanos, now);
+    }
+
+    public LatencyStatistics getOverall() {
+        return toStatistics(all.snapshot(System.nanoTime()));
+    }
+
+    /* Every route seen so far, sorted by name, followed by ALL */
+    public Map<String, LatencyStatistics> getStatistics() {
+        long now = System.nanoTime();
+        Map<String, LatencyStatistics> statistics = new TreeMap<>();
+        histograms.forEach((route, histogram) -> statistics.put(route, toStatistics(histogram.snapshot(now))));
+        statistics.put(ALL_ROUTES, toStatistics(all.snapshot(now)));
+        return statistics;
+    }
+
+    /* Adds latency.<route>.p50/p95/p99/max/rps for every route except ALL, as reported by /health */
+    public void putRouteMetrics(Map<String, Double> metrics) {
+        getStatistics().forEach((route, latency) -> {
+            if (!ALL_ROUTES.equals(route)) {
+                String prefix = "latency." + route;
+                metrics.put(prefix + ".p50", latency.getP50Millis());
+                metrics.put(prefix + ".p95", latency.getP95Millis());
+                metrics.put(prefix + ".p99", latency.getP99Millis());
+                metrics.put(prefix + ".max", latency.getMaxMillis());
+                metrics.put(prefix + ".rps", latency.getThroughputPerSecond());
+            }
+        });
+    }
+
+    private RollingLatencyHistogram histogramFor(String route) {
+        RollingLatencyHistogram histogram = histograms.get(route);
+        if (histogram != null) {
+            return histogram;
+        }
+        // Bound the number of histograms even if routes are unexpectedly many
+        String key = histograms.size() < properties.getMaxRoutes() ? route : OTHER_ROUTES;
+        return histograms.computeIfAbsent(key, k -> newHistogram());
+    }
+
+    private RollingLatencyHistogram newHistogram() {
+        return new RollingLatencyHistogram(properties.getWindow().toNanos(), properties.getSlots(), System.nanoTime());
+    }
+
+    private static LatencyStatistics toStatistics(RollingLatencyHistogram.Snapshot snapshot) {
+        return new LatencyStatistics(
+                snapshot.count(),
+                Math.round(snapshot.throughputPerSecond() * 100.0) / 100.0,
+                toMillis(snapshot.p50()),
+                toMillis(snapshot.p95()),
+                toMillis(snapshot.p99()),
+                toMillis(snapshot.max()));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
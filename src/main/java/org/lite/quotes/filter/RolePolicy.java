@@ -0,0 +1,111 @@
+package org.lite.quotes.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.config.RolePolicyProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Role requirements per path, compiled once at startup.
+ * <p>
+ * Every role named by any rule gets one bit; a rule becomes a bitmask of the roles it requires and a
+ * token becomes a bitmask of the known roles it holds. Claims are parsed once per {@link Jwt} instance
+ * (the caching decoder hands out the same instance for a repeated token), after which an access check
+ * is a path match and a single AND. Missing or malformed claims simply grant nothing.
+ */
+@Component
+@Slf4j
+public class RolePolicy {
+
+    private static final int MAX_ROLES = Long.SIZE;
+
+    private final List<CompiledRule> rules = new ArrayList<>();
+    private final Map<String, Long> realmRoleBits = new LinkedHashMap<>();
+    private final Map<String, Map<String, Long>> clientRoleBits = new LinkedHashMap<>();
+    private final Cache<Jwt, Long> grantedRoles;
+    private int nextBit;
+
+    public RolePolicy(RolePolicyProperties properties) {
+        PathPatternParser parser = new PathPatternParser();
+        for (RolePolicyProperties.Rule rule : properties.getRules()) {
+            long required = 0;
+            for (String role : rule.getRealmRoles()) {
+                required |= realmRoleBits.computeIfAbsent(role, r -> allocateBit());
+            }
+            for (Map.Entry<String, List<String>> client : rule.getClientRoles().entrySet()) {
+                Map<String, Long> bits = clientRoleBits.computeIfAbsent(client.getKey(), c -> new LinkedHashMap<>());
+                for (String role : client.getValue()) {
+                    required |= bits.computeIfAbsent(role, r -> allocateBit());
+                }
+            }
+            rules.add(new CompiledRule(parser.parse(rule.getPattern()), required));
+        }
+        // Weak keys compare by identity, and entries go away with the decoder's own cache entry
+        this.grantedRoles = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(properties.getCacheMaxSize())
+                .build();
+        log.info("Compiled {} authorization rules over {} distinct roles", rules.size(), nextBit);
+    }
+
+    /* True if the token holds every role the first rule matching the path requires */
+    public boolean permits(String path, Jwt jwt) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (CompiledRule rule : rules) {
+            if (rule.pattern.matches(container)) {
+                long granted = grantedRoles.get(jwt, this::extractRoles);
+                return (granted & rule.required) == rule.required;
+            }
+        }
+        return false;
+    }
+
+    private long allocateBit() {
+        if (nextBit == MAX_ROLES) {
+            throw new IllegalStateException("Authorization rules may name at most " + MAX_ROLES + " distinct roles");
+        }
+        return 1L << nextBit++;
+    }
+
+    private long extractRoles(Jwt jwt) {
+        long granted = 0;
+        if (jwt.getClaims().get("realm_access") instanceof Map<?, ?> realmAccess) {
+            granted |= bitsOf(realmAccess.get("roles"), realmRoleBits);
+        }
+        if (jwt.getClaims().get("resource_access") instanceof Map<?, ?> resourceAccess) {
+            for (Map.Entry<String, Map<String, Long>> client : clientRoleBits.entrySet()) {
+                if (resourceAccess.get(client.getKey()) instanceof Map<?, ?> clientAccess) {
+                    granted |= bitsOf(clientAccess.get("roles"), client.getValue());
+                }
+            }
+        }
+        return granted;
+    }
+
+    private static long bitsOf(Object roles, Map<String, Long> known) {
+        long bits = 0;
+        if (roles instanceof Collection<?> values) {
+            for (Object role : values) {
+                Long bit = role instanceof String name ? known.get(name) : null;
+                if (bit != null) {
+                    bits |= bit;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private record CompiledRule(PathPattern pattern, long required) {
+    }
+}
@@ -0,0 +1,123 @@
+package org.lite.quotes.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram over a rolling time window.
+ * <p>
+ * Buckets are log-linear like HdrHistogram's: every power of two is split into {@value #SUB_BUCKETS}
+ * linear sub-buckets, so any recorded value is reported within 12.5% using 312 counters that cover
+ * 1 ns to about 36 minutes (longer samples land in the last bucket). The window is a ring of slots; a slot is cleared by the first writer
+ * that reaches it in a new period, and reads merge every slot still inside the window. Samples racing
+ * with that clear may be lost, which is acceptable for monitoring.
+ */
+final class RollingLatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final Slot[] slots;
+    private final long slotNanos;
+    private final long createdAt;
+
+    RollingLatencyHistogram(long windowNanos, int slotCount, long now) {
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot();
+        }
+        this.slotNanos = windowNanos / slotCount;
+        this.createdAt = now;
+    }
+
+    void record(long nanos, long now) {
+        long period = (now - createdAt) / slotNanos;
+        Slot slot = slots[(int) (period % slots.length)];
+        long seen = slot.period.get();
+        if (seen < period && slot.period.compareAndSet(seen, period)) {
+            slot.clear();
+        }
+        long value = Math.min(Math.max(0, nanos), MAX_VALUE);
+        slot.counts.incrementAndGet(bucketOf(value));
+        slot.max.accumulateAndGet(value, Math::max);
+    }
+
+    Snapshot snapshot(long now) {
+        long period = (now - createdAt) / slotNanos;
+        long[] merged = new long[BUCKETS];
+        long count = 0;
+        long max = 0;
+        for (Slot slot : slots) {
+            // Only slots written during the last slots.length periods belong to the window
+            if (period - slot.period.get() >= slots.length) {
+                continue;
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                long c = slot.counts.get(i);
+                merged[i] += c;
+                count += c;
+            }
+            max = Math.max(max, slot.max.get());
+        }
+        // Until a full window has passed, throughput is over the time actually covered
+        long coveredNanos = Math.min(slotNanos * slots.length, Math.max(now - createdAt, 1));
+        return new Snapshot(count, count * 1e9 / coveredNanos,
+                percentile(merged, count, 0.50, max),
+                percentile(merged, count, 0.95, max),
+                percentile(merged, count, 0.99, max),
+                max);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    record Snapshot(long count, double throughputPerSecond, long p50, long p95, long p99, long max) {
+    }
+
+    private static final class Slot {
+        private final AtomicLong period = new AtomicLong();
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong max = new AtomicLong();
+
+        void clear() {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0);
+            }
+            max.set(0);
+        }
+    }
+}
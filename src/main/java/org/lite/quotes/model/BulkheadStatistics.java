@@ -0,0 +1,22 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkheadStatistics {
+    private int maxConcurrent;
+    private int inUse;
+    private int waiting;            // Callers blocked right now
+    private long acquired;
+    private long queued;            // Acquisitions that had to wait for a permit
+    private long rejected;          // Gave up after the acquire timeout
+    private double avgWaitMillis;   // Over queued acquisitions only
+    private double maxWaitMillis;
+    private int maxConcurrentStreaming;     // Of maxConcurrent, how many streaming exports may hold
+    private int streamingInUse;
+    private long streamingRejected;         // Streaming reads that found the streaming budget full
+}
@@ -0,0 +1,16 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatistics {
+    private long size;              // Estimated number of entries
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;         // Size/TTL evictions, not explicit invalidations
+}
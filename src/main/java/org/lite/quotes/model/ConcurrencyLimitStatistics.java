@@ -0,0 +1,17 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimitStatistics {
+    private int limit;
+    private int inFlight;
+    private long admitted;
+    private long rejected;              // Answered with 503 and Retry-After
+    private double baselineRttMillis;   // Slow-moving latency the limit is judged against
+    private double recentRttMillis;     // Average of the last window
+}
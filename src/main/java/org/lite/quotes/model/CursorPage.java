@@ -0,0 +1,16 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/* One page of a keyset-paginated read; pass nextCursor back as "after" to get the next page */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;        // null when this is the last page
+}
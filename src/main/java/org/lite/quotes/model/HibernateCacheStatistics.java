@@ -0,0 +1,32 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HibernateCacheStatistics {
+    private long entityHits;        // Entity loads answered by the second-level cache
+    private long entityMisses;
+    private double entityHitRate;
+    private long queryHits;         // Cacheable queries answered by the query cache
+    private long queryMisses;
+    private double queryHitRate;
+    private long entityLoads;       // Entities hydrated from JDBC result sets
+    private Map<String, RegionStatistics> regions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegionStatistics {
+        private long size;          // Entries held, or -1 if the provider does not report it
+        private long hits;
+        private long misses;
+        private long puts;
+        private double hitRate;
+    }
+}
@@ -0,0 +1,15 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/* Ids for a batch lookup; results come back in this order, duplicates once */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdBatchRequest {
+    private List<Long> ids;
+}
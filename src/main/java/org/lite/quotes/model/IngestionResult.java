@@ -0,0 +1,38 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionResult {
+    private int inserted;
+    private int ignored;                    // Duplicates skipped by INSERT OR IGNORE
+    private int rejected;                   // Rows that could not be parsed or written
+    private List<BatchResult> batches = new ArrayList<>();
+    private List<RowReject> rejects = new ArrayList<>();   // Only the first few are kept
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResult {
+        private int batch;
+        private int inserted;
+        private int ignored;
+        private int rejected;
+        private long elapsedMillis;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowReject {
+        private long record;                // 1-based record number in the input, header excluded
+        private String reason;
+    }
+}
@@ -0,0 +1,16 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.lite.quotes.entity.Person;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeopleBatchResponse {
+    private List<Person> people;    // In request order
+    private List<Long> missing;     // Requested ids with no person
+}
@@ -0,0 +1,17 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.lite.quotes.entity.Quote;
+
+import java.util.List;
+
+/* Every quote of one person in a batch lookup; empty for people without quotes or unknown ids */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonQuotes {
+    private Long personId;
+    private List<Quote> quotes;
+}
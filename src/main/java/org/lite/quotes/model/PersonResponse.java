@@ -3,6 +3,7 @@ package org.lite.quotes.model;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.lite.quotes.entity.Person;
 
 @Data
 @NoArgsConstructor
@@ -15,4 +16,16 @@ public class PersonResponse {
     private String nationality;
     private String description;
     private String category;
+
+    public static PersonResponse from(Person person) {
+        return new PersonResponse(
+            person.getFullName(),
+            person.getKnownAs(),
+            person.getBirthYear(),
+            person.getDeathYear(),
+            person.getNationality(),
+            person.getDescription(),
+            person.getCategory()
+        );
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonSuggestion {
+    private Long id;
+    private String fullName;
+    private String knownAs;
+    private String category;
+    private String matched;         // The name the query matched, fullName or knownAs
+}
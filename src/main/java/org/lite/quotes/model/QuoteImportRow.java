@@ -0,0 +1,16 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/* One quote in a bulk import; author is matched against Person.fullName */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteImportRow {
+    private String author;
+    private String quoteText;
+    private String source;
+    private Integer year;
+}
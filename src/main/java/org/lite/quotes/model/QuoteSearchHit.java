@@ -0,0 +1,14 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.lite.quotes.entity.Quote;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteSearchHit {
+    private Quote quote;
+    private float score;            // BM25 relevance, higher is better
+}
@@ -0,0 +1,18 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteSearchResponse {
+    private String query;
+    private int total;              // All matching quotes, not just this page
+    private int limit;
+    private int offset;
+    private List<QuoteSearchHit> hits;
+}
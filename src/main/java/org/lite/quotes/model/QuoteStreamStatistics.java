@@ -0,0 +1,21 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteStreamStatistics {
+    private int subscribers;
+    private String overflowPolicy;
+    private long published;         // Quotes offered to subscribers
+    private long delivered;         // Events written to subscribers, replays included
+    private long replayed;          // Of those, read back from the database
+    private long dropped;           // Discarded under DROP_OLDEST
+    private long coalesced;         // Buffer overflows collapsed into a catch-up under COALESCE
+    private long rejected;          // Subscriptions refused at max-subscribers
+    private long replayQueries;     // Catch-up pages read from the database; shared reads count once
+    private long replayFailures;    // Catch-up reads that failed and were retried
+}
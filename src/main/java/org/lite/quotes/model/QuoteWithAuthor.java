@@ -0,0 +1,36 @@
+package org.lite.quotes.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Quote with a summary of its author, built directly by a JPQL constructor expression so a list
+ * costs one joined select of exactly these columns instead of hydrating Quote and Person entities.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteWithAuthor {
+    private Long id;
+    private String quoteText;
+    private String source;
+    private Integer year;
+    private AuthorSummary author;
+
+    // Flat column order used by the repository's select new ... expressions
+    public QuoteWithAuthor(Long id, String quoteText, String source, Integer year,
+                           Long authorId, String fullName, String knownAs, String category) {
+        this(id, quoteText, source, year, new AuthorSummary(authorId, fullName, knownAs, category));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AuthorSummary {
+        private Long id;
+        private String fullName;
+        private String knownAs;
+        private String category;
+    }
+}
@@ -1,9 +1,26 @@
 package org.lite.quotes.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.lite.quotes.config.HibernateCacheConfig;
 import org.lite.quotes.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-} 
\ No newline at end of file
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.CATEGORY_QUERIES)
+    })
+    List<Category> findAll();
+
+    @Query("SELECT MAX(c.createdAt) FROM Category c")
+    LocalDateTime findLatestCreatedAt();
+}
\ No newline at end of file
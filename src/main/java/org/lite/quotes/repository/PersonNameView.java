@@ -0,0 +1,7 @@
+package org.lite.quotes.repository;
+
+/* Projection for resolving authors by name without hydrating Person entities */
+public interface PersonNameView {
+    Long getId();
+    String getFullName();
+}
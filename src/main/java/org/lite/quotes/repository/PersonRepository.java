@@ -1,16 +1,53 @@
 package org.lite.quotes.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.lite.quotes.config.HibernateCacheConfig;
 import org.lite.quotes.entity.Person;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PersonRepository extends JpaRepository<Person, Long> {
+    // Query cache holds the matching ids; the people themselves come from the entity region
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.PERSON_QUERIES)
+    })
     List<Person> findByFullNameContaining(String fullName);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.PERSON_QUERIES)
+    })
     @Query("SELECT p.fullName FROM Person p")
     List<String> findAllFullNames();
+
+    @Query("SELECT p.id AS id, p.category AS category, p.nationality AS nationality FROM Person p")
+    List<PersonSamplingKey> findAllSamplingKeys();
+
+    @Query("SELECT p.id AS id, p.fullName AS fullName FROM Person p")
+    List<PersonNameView> findAllNames();
+
+    @Query("SELECT p.id AS id, p.fullName AS fullName, p.knownAs AS knownAs, p.category AS category FROM Person p")
+    List<PersonSuggestView> findAllSuggestKeys();
+
+    @Query("SELECT MAX(p.createdAt) FROM Person p")
+    LocalDateTime findLatestCreatedAt();
+
+    List<Person> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Person p ORDER BY p.id")
+    Stream<Person> streamAll();
 }
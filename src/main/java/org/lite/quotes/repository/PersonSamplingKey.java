@@ -0,0 +1,8 @@
+package org.lite.quotes.repository;
+
+/* Projection with just the columns the random-person sampling index needs */
+public interface PersonSamplingKey {
+    Long getId();
+    String getCategory();
+    String getNationality();
+}
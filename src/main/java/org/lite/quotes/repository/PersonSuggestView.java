@@ -0,0 +1,9 @@
+package org.lite.quotes.repository;
+
+/* Projection with the columns the typeahead name index needs */
+public interface PersonSuggestView {
+    Long getId();
+    String getFullName();
+    String getKnownAs();
+    String getCategory();
+}
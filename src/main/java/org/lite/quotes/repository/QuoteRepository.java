@@ -1,13 +1,80 @@
 package org.lite.quotes.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.lite.quotes.entity.Quote;
+import org.lite.quotes.model.QuoteWithAuthor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface QuoteRepository extends JpaRepository<Quote, Long> {
+    String WITH_AUTHOR = "SELECT new org.lite.quotes.model.QuoteWithAuthor(q.id, q.quoteText, q.source, q.year, "
+            + "p.id, p.fullName, p.knownAs, p.category) FROM Quote q JOIN q.person p ";
+
+    // Entity reads join the eager person in the same select instead of one select per distinct author
+    @EntityGraph(attributePaths = "person")
     List<Quote> findByPersonId(Long personId);
+    @EntityGraph(attributePaths = "person")
     List<Quote> findByQuoteTextContainingIgnoreCase(String query);
+
+    @Override
+    @EntityGraph(attributePaths = "person")
+    List<Quote> findAllById(Iterable<Long> ids);
+
+    @EntityGraph(attributePaths = "person")
+    List<Quote> findByPersonIdInOrderByIdAsc(Collection<Long> personIds);
+
+    @Query("SELECT q.id AS id, q.quoteText AS quoteText FROM Quote q")
+    Stream<QuoteTextView> streamAllTexts();
+
+    @Query("SELECT q.id AS id, q.quoteText AS quoteText FROM Quote q WHERE q.id > :afterId ORDER BY q.id")
+    Stream<QuoteTextView> streamTextsAfter(@Param("afterId") long afterId);
+
+    @Query("SELECT MAX(q.createdAt) FROM Quote q")
+    LocalDateTime findLatestCreatedAt();
+
+    @Query("SELECT MAX(q.id) FROM Quote q")
+    Long findMaxId();
+
+    @EntityGraph(attributePaths = "person")
+    List<Quote> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = "person")
+    List<Quote> findByPersonIdAndIdGreaterThanOrderByIdAsc(Long personId, Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT q FROM Quote q JOIN FETCH q.person ORDER BY q.id")
+    Stream<Quote> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT q FROM Quote q JOIN FETCH q.person WHERE q.person.id = :personId ORDER BY q.id")
+    Stream<Quote> streamByPersonId(@Param("personId") Long personId);
+
+    // DTO reads: one joined select of the needed columns, no entities in the persistence context
+    @Query(WITH_AUTHOR + "WHERE p.id = :personId ORDER BY q.id")
+    List<QuoteWithAuthor> findWithAuthorByPersonId(@Param("personId") Long personId);
+
+    @Query(WITH_AUTHOR + "WHERE q.id > :afterId ORDER BY q.id")
+    List<QuoteWithAuthor> findWithAuthorAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(WITH_AUTHOR + "WHERE p.id = :personId AND q.id > :afterId ORDER BY q.id")
+    List<QuoteWithAuthor> findWithAuthorByPersonIdAfter(@Param("personId") Long personId,
+                                                        @Param("afterId") Long afterId, Limit limit);
 }
@@ -0,0 +1,7 @@
+package org.lite.quotes.repository;
+
+/* Projection used to (re)build the full-text quote index without hydrating Quote and Person */
+public interface QuoteTextView {
+    Long getId();
+    String getQuoteText();
+}
@@ -0,0 +1,187 @@
+package org.lite.quotes.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.lite.quotes.model.IngestionResult;
+import org.lite.quotes.model.IngestionResult.BatchResult;
+import org.lite.quotes.model.IngestionResult.RowReject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams rows from any source into SQLite with JDBC batch inserts, one transaction per chunk.
+ * Use {@code INSERT OR IGNORE} statements so rows that hit a unique constraint are counted as
+ * ignored instead of failing the chunk. Only one chunk of bound parameters is held in memory.
+ * <p>
+ * The inserts bypass Hibernate, so each chunk transaction marks its table in Hibernate's update
+ * timestamps the way Hibernate's own bulk statements do. Query results read while the chunk is
+ * being written, or before it, are then never served from the query cache.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BatchIngestionEngine {
+
+    public static final int MAX_REPORTED_REJECTS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${data-loader.batch-size:1000}")
+    private int batchSize;
+
+    /* Turns one source row into statement parameters; throw IllegalArgumentException to reject it */
+    @FunctionalInterface
+    public interface RowBinder<S> {
+        Object[] bind(S row);
+    }
+
+    /* table is the one insertSql writes to, i.e. the query space of the entity mapped onto it */
+    public <S> IngestionResult ingest(Iterator<S> source, String table, String insertSql, RowBinder<S> binder) {
+        IngestionResult result = new IngestionResult();
+        Chunk chunk = new Chunk(batchSize);
+        long record = 0;
+
+        while (source.hasNext()) {
+            S row = source.next();
+            record++;
+            try {
+                chunk.add(record, binder.bind(row));
+            } catch (IllegalArgumentException e) {
+                chunk.rejected++;
+                reject(result, record, e.getMessage());
+            }
+            if (chunk.size() == batchSize) {
+                flush(table, insertSql, chunk, result);
+            }
+        }
+        flush(table, insertSql, chunk, result);
+        return result;
+    }
+
+    private void flush(String table, String sql, Chunk chunk, IngestionResult result) {
+        if (chunk.size() == 0 && chunk.rejected == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        int written;
+        try {
+            int[] counts = transactionTemplate.execute(status -> {
+                invalidateQueryCache(table);
+                return jdbcTemplate.batchUpdate(sql, chunk.params);
+            });
+            written = countInserted(counts);
+        } catch (DataAccessException e) {
+            // Rare with INSERT OR IGNORE; isolate the offending rows instead of losing the chunk
+            log.warn("Batch {} failed, retrying row by row: {}", result.getBatches().size() + 1, e.getMessage());
+            Integer rowByRow = transactionTemplate.execute(status -> {
+                invalidateQueryCache(table);
+                return writeRowByRow(sql, chunk, result);
+            });
+            written = rowByRow == null ? 0 : rowByRow;
+        }
+
+        int ignored = chunk.size() - written - chunk.failed;
+        int rejected = chunk.rejected + chunk.failed;
+        result.setInserted(result.getInserted() + written);
+        result.setIgnored(result.getIgnored() + ignored);
+        result.setRejected(result.getRejected() + rejected);
+        result.getBatches().add(new BatchResult(result.getBatches().size() + 1, written, ignored, rejected,
+                (System.nanoTime() - start) / 1_000_000));
+        chunk.clear();
+    }
+
+    private int writeRowByRow(String sql, Chunk chunk, IngestionResult result) {
+        int written = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                written += jdbcTemplate.update(sql, chunk.params.get(i));
+            } catch (DataAccessException e) {
+                chunk.failed++;
+                reject(result, chunk.records.get(i), e.getMostSpecificCause().getMessage());
+            }
+        }
+        return written;
+    }
+
+    /*
+     * Pre-invalidates the table for the rest of the transaction and invalidates it again once the
+     * transaction completes, so a cached result counts as stale unless it was read after the rows became
+     * visible. Evicting result regions after commit is not enough: a query already in flight would put
+     * its old result back and it would be served until the region expired.
+     */
+    private void invalidateQueryCache(String table) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        CacheImplementor cache = session.getFactory().getCache();
+        TimestampsCache timestamps = cache == null ? null : cache.getTimestampsCache();
+        if (timestamps == null) {
+            return;     // Query cache disabled
+        }
+        String[] spaces = {table};
+        timestamps.preInvalidate(spaces, session);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                timestamps.invalidate(spaces, session);
+            }
+        });
+    }
+
+    private static int countInserted(int[] counts) {
+        int inserted = 0;
+        for (int count : counts) {
+            // Drivers may report SUCCESS_NO_INFO for batched statements; count those as written
+            inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return inserted;
+    }
+
+    private static void reject(IngestionResult result, long record, String reason) {
+        if (result.getRejects().size() < MAX_REPORTED_REJECTS) {
+            result.getRejects().add(new RowReject(record, reason));
+        }
+    }
+
+    private static final class Chunk {
+        private final List<Object[]> params;
+        private final List<Long> records;
+        private int rejected;               // Rows the binder refused
+        private int failed;                 // Rows the database refused
+
+        Chunk(int capacity) {
+            params = new ArrayList<>(capacity);
+            records = new ArrayList<>(capacity);
+        }
+
+        void add(long record, Object[] row) {
+            params.add(row);
+            records.add(record);
+        }
+
+        int size() {
+            return params.size();
+        }
+
+        void clear() {
+            params.clear();
+            records.clear();
+            rejected = 0;
+            failed = 0;
+        }
+    }
+}
@@ -1,164 +1,271 @@
 package org.lite.quotes.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvMalformedLineException;
 import com.opencsv.exceptions.CsvValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.lite.quotes.entity.Person;
-import org.lite.quotes.entity.Category;
+import org.lite.quotes.event.CategoriesChangedEvent;
+import org.lite.quotes.event.PeopleChangedEvent;
+import org.lite.quotes.event.QuotesImportedEvent;
+import org.lite.quotes.model.IngestionResult;
+import org.lite.quotes.model.QuoteImportRow;
+import org.lite.quotes.repository.PersonNameView;
 import org.lite.quotes.repository.PersonRepository;
-import org.lite.quotes.repository.CategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DataLoaderService {
-    
+
+    private static final String PEOPLE_TABLE = "people";
+    private static final String CATEGORIES_TABLE = "categories";
+    private static final String QUOTES_TABLE = "quotes";
+
+    private static final String INSERT_PERSON_SQL =
+            "INSERT OR IGNORE INTO people (full_name, known_as, birth_year, death_year, nationality, description, category, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CATEGORY_SQL =
+            "INSERT OR IGNORE INTO categories (name, description, created_at) VALUES (?, ?, ?)";
+    private static final String INSERT_QUOTE_SQL =
+            "INSERT INTO quotes (person_id, quote_text, source, year, created_at) VALUES (?, ?, ?, ?, ?)";
+
     private final PersonRepository personRepository;
-    private final CategoryRepository categoryRepository;
+    private final BatchIngestionEngine ingestionEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     public int loadPeopleFromCsv(boolean force) {
         log.info("Starting to load people data from CSV. Force reload: {}", force);
-        
+
         if (force) {
             log.info("Force reload requested. Deleting all existing people data.");
             deleteAllPeople();
         }
 
-        Set<String> existingNames = new HashSet<>();
-        if (!force) {
-            existingNames.addAll(personRepository.findAllFullNames());
-            log.info("Found {} existing people in database", existingNames.size());
+        // Existing names are skipped by the unique constraint on full_name, no need to preload them
+        IngestionResult result = ingestCsv("data/people.csv", PEOPLE_TABLE, INSERT_PERSON_SQL, this::bindPerson);
+
+        log.info("Data loading completed. Loaded: {}, Skipped: {}, Errors: {}",
+                result.getInserted(), result.getIgnored(), result.getRejected());
+        if (result.getRejected() > 0) {
+            log.warn("Failed to load {} people due to errors: {}", result.getRejected(), result.getRejects());
+        }
+        if (force || result.getInserted() > 0) {
+            eventPublisher.publishEvent(new PeopleChangedEvent(force));
         }
+        return result.getInserted();
+    }
 
-        int loadedCount = 0;
-        int skippedCount = 0;
-        int errorCount = 0;
-        Set<String> errorNames = new HashSet<>();
+    private void deleteAllPeople() {
+        // A single DELETE statement instead of loading and removing every entity
+        personRepository.deleteAllInBatch();
+    }
 
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(getClass().getResourceAsStream("/data/people.csv")))) {
-            
-            // Skip header
-            String line = reader.readLine();
-            if (line == null) {
-                log.warn("CSV file is empty");
-                return 0;
-            }
+    public void loadCategoriesFromCsv() {
+        IngestionResult result = ingestCsv("data/category.csv", CATEGORIES_TABLE, INSERT_CATEGORY_SQL, this::bindCategory);
+        if (result.getIgnored() > 0) {
+            log.warn("Skipped {} duplicate categories", result.getIgnored());
+        }
+        if (result.getRejected() > 0) {
+            log.warn("Failed to load {} categories due to errors: {}", result.getRejected(), result.getRejects());
+        }
+        log.info("Successfully loaded {} new categories from CSV", result.getInserted());
+        if (result.getInserted() > 0) {
+            eventPublisher.publishEvent(new CategoriesChangedEvent(result.getInserted()));
+        }
+    }
 
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length < 7) {
-                    log.warn("Skipping invalid line: {}", line);
-                    continue;
-                }
-
-                String fullName = parts[0].trim();
-                if (!force && existingNames.contains(fullName)) {
-                    log.debug("Skipping duplicate name: {}", fullName);
-                    skippedCount++;
-                    continue;
-                }
-
-                try {
-                    savePerson(fullName, parts);
-                    loadedCount++;
-                    log.debug("Loaded person: {}", fullName);
-                } catch (DataIntegrityViolationException e) {
-                    errorCount++;
-                    errorNames.add(fullName);
-                    log.warn("Failed to load person {} due to unique constraint violation", fullName);
-                } catch (Exception e) {
-                    errorCount++;
-                    errorNames.add(fullName);
-                    log.error("Failed to load person {}: {}", fullName, e.getMessage());
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error loading people data", e);
-            throw new RuntimeException("Failed to load people data: " + e.getMessage(), e);
+    /**
+     * Imports quotes from CSV with a header row and the columns author, quote_text, source, year.
+     * The body is read as it arrives; only one batch is buffered at a time. Rows the CSV parser cannot
+     * read are rejected like any other bad row and the import carries on with the next one.
+     */
+    public IngestionResult importQuotesFromCsv(InputStream body) {
+        try (CSVReader reader = new CSVReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            // Skip header
+            reader.skip(1);
+            return importQuotes(new CsvRows(reader), row -> parseQuoteCsv(row.columns()));
+        } catch (IOException e) {
+            log.error("Error importing quotes from CSV", e);
+            throw new RuntimeException("Failed to import quotes: " + e.getMessage(), e);
         }
+    }
 
-        log.info("Data loading completed. Loaded: {}, Skipped: {}, Errors: {}", loadedCount, skippedCount, errorCount);
-        if (!errorNames.isEmpty()) {
-            log.warn("Failed to load {} people due to errors: {}", errorCount, errorNames);
+    /* Imports quotes from newline-delimited JSON objects shaped like QuoteImportRow */
+    public IngestionResult importQuotesFromNdjson(InputStream body) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Iterator<String> lines = reader.lines().filter(line -> !line.isBlank()).iterator();
+            return importQuotes(lines, this::parseQuoteJson);
+        } catch (IOException e) {
+            log.error("Error importing quotes from NDJSON", e);
+            throw new RuntimeException("Failed to import quotes: " + e.getMessage(), e);
         }
-        return loadedCount;
     }
 
-    @Transactional
-    protected void deleteAllPeople() {
-        personRepository.deleteAll();
+    private <S> IngestionResult importQuotes(Iterator<S> rows, Function<S, QuoteImportRow> parser) {
+        // Resolve authors from memory: one query per import instead of one per quote
+        Map<String, Long> authorIds = new HashMap<>();
+        for (PersonNameView person : personRepository.findAllNames()) {
+            authorIds.putIfAbsent(authorKey(person.getFullName()), person.getId());
+        }
+
+        IngestionResult result = ingestionEngine.ingest(rows, QUOTES_TABLE, INSERT_QUOTE_SQL,
+                row -> bindQuote(parser.apply(row), authorIds));
+
+        log.info("Quote import completed. Imported: {}, Rejected: {}, Batches: {}",
+                result.getInserted(), result.getRejected(), result.getBatches().size());
+        if (result.getInserted() > 0) {
+            eventPublisher.publishEvent(new QuotesImportedEvent(result.getInserted()));
+        }
+        return result;
     }
 
-    @Transactional
-    protected void savePerson(String fullName, String[] parts) {
-        Person person = new Person();
-        person.setFullName(fullName);
-        person.setKnownAs(parts[1].trim());
-        person.setBirthYear(parseYear(parts[2].trim()));
-        person.setDeathYear(parseYear(parts[3].trim()));
-        person.setNationality(parts[4].trim());
-        person.setDescription(parts[5].trim());
-        person.setCategory(parts[6].trim());
-        personRepository.save(person);
+    private QuoteImportRow parseQuoteCsv(String[] parts) {
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Expected at least author and quote_text columns, got " + parts.length);
+        }
+        return new QuoteImportRow(parts[0], parts[1],
+                parts.length > 2 ? parts[2] : null,
+                parts.length > 3 ? parseYear(parts[3]) : null);
     }
 
-    @Transactional
-    public void loadCategoriesFromCsv() {
+    private QuoteImportRow parseQuoteJson(String line) {
         try {
-            // Get existing categories
-            Set<String> existingCategories = categoryRepository.findAll().stream()
-                    .map(Category::getName)
-                    .collect(Collectors.toSet());
-
-            ClassPathResource resource = new ClassPathResource("data/category.csv");
-            try (CSVReader reader = new CSVReader(new InputStreamReader(resource.getInputStream()))) {
-                // Skip header
-                reader.readNext();
-                
-                String[] line;
-                List<Category> newCategories = new ArrayList<>();
-                Set<String> duplicateCategories = new HashSet<>();
-                
-                while ((line = reader.readNext()) != null) {
-                    String name = line[0];
-                    
-                    // Skip if the category already exists
-                    if (existingCategories.contains(name)) {
-                        duplicateCategories.add(name);
-                        continue;
-                    }
-                    
-                    Category category = new Category();
-                    category.setName(name);
-                    category.setDescription(line[1]);
-                    newCategories.add(category);
-                    
-                    // Add to existing categories to prevent duplicates within the CSV
-                    existingCategories.add(name);
-                }
-                
-                if (!duplicateCategories.isEmpty()) {
-                    log.warn("Skipped {} duplicate categories: {}", duplicateCategories.size(), duplicateCategories);
-                }
-                
-                categoryRepository.saveAll(newCategories);
-                log.info("Successfully loaded {} new categories from CSV", newCategories.size());
+            return objectMapper.readValue(line, QuoteImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Object[] bindQuote(QuoteImportRow row, Map<String, Long> authorIds) {
+        if (row.getAuthor() == null || row.getAuthor().isBlank()) {
+            throw new IllegalArgumentException("Missing author");
+        }
+        if (row.getQuoteText() == null || row.getQuoteText().isBlank()) {
+            throw new IllegalArgumentException("Missing quote text");
+        }
+        Long personId = authorIds.get(authorKey(row.getAuthor()));
+        if (personId == null) {
+            throw new IllegalArgumentException("Unknown author: " + row.getAuthor().trim());
+        }
+        String source = row.getSource() == null || row.getSource().isBlank() ? null : row.getSource().trim();
+        return new Object[]{personId, row.getQuoteText().trim(), source, row.getYear(), Timestamp.valueOf(LocalDateTime.now())};
+    }
+
+    private static String authorKey(String fullName) {
+        return fullName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private IngestionResult ingestCsv(String path, String table, String insertSql, BatchIngestionEngine.RowBinder<String[]> binder) {
+        ClassPathResource resource = new ClassPathResource(path);
+        try (CSVReader reader = new CSVReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            // Skip header
+            reader.skip(1);
+            return ingestionEngine.ingest(new CsvRows(reader), table, insertSql, row -> binder.bind(row.columns()));
+        } catch (IOException e) {
+            log.error("Error loading {}", path, e);
+            throw new RuntimeException("Failed to load data from " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Object[] bindPerson(String[] parts) {
+        if (parts.length < 7 || parts[0].isBlank()) {
+            throw new IllegalArgumentException("Expected 7 columns starting with a full name, got " + parts.length);
+        }
+        return new Object[]{
+                parts[0].trim(),
+                parts[1].trim(),
+                parseYear(parts[2]),
+                parseYear(parts[3]),
+                parts[4].trim(),
+                parts[5].trim(),
+                parts[6].trim(),
+                Timestamp.valueOf(LocalDateTime.now())
+        };
+    }
+
+    private Object[] bindCategory(String[] parts) {
+        if (parts.length < 2 || parts[0].isBlank()) {
+            throw new IllegalArgumentException("Expected 2 columns starting with a category name, got " + parts.length);
+        }
+        return new Object[]{parts[0].trim(), parts[1].trim(), Timestamp.valueOf(LocalDateTime.now())};
+    }
+
+    /* One CSV record, or the reason the parser could not read it */
+    private record CsvRow(String[] parts, String error) {
+        String[] columns() {
+            if (error != null) {
+                throw new IllegalArgumentException(error);
+            }
+            return parts;
+        }
+    }
+
+    /*
+     * Reads records with readNext() instead of CSVReader.iterator(), which reads one record ahead and
+     * turns a malformed one into a NoSuchElementException that ends the whole import.
+     */
+    private static final class CsvRows implements Iterator<CsvRow> {
+        private final CSVReader reader;
+        private CsvRow next;
+        private boolean done;
+
+        CsvRows(CSVReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = read();
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public CsvRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CsvRow row = next;
+            next = null;
+            return row;
+        }
+
+        private CsvRow read() {
+            try {
+                String[] parts = reader.readNext();
+                return parts == null ? null : new CsvRow(parts, null);
+            } catch (CsvMalformedLineException e) {
+                return new CsvRow(null, "Malformed CSV at line " + e.getLineNumber() + ": " + e.getMessage());
+            } catch (CsvValidationException e) {
+                return new CsvRow(null, "Invalid CSV at line " + e.getLineNumber() + ": " + e.getMessage());
+            } catch (IOException e) {
+                // The body itself failed, not one row of it
+                throw new UncheckedIOException(e);
             }
-        } catch (IOException | CsvValidationException e) {
-            log.error("Error loading categories from CSV", e);
-            throw new RuntimeException("Failed to load categories from CSV", e);
         }
     }
 
@@ -173,4 +280,4 @@ public class DataLoaderService {
             return null;
         }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
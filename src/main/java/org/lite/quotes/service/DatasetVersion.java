@@ -0,0 +1,100 @@
+package org.lite.quotes.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.event.CategoriesChangedEvent;
+import org.lite.quotes.event.PeopleChangedEvent;
+import org.lite.quotes.event.QuoteSavedEvent;
+import org.lite.quotes.event.QuotesImportedEvent;
+import org.lite.quotes.repository.CategoryRepository;
+import org.lite.quotes.repository.PersonRepository;
+import org.lite.quotes.repository.QuoteRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Monotonically increasing version of everything the read endpoints serve, used for ETags.
+ * <p>
+ * Values are millisecond timestamps, never less than the previous value + 1. The counter lives in
+ * memory only, so it is seeded from the later of the newest {@code created_at} across people, quotes
+ * and categories and the current time. Seeding from {@code created_at} alone could move it backwards
+ * after a forced reload or a delete and reuse an ETag for different content; seeding from the clock
+ * means every restart changes every ETag, which only costs clients one full response.
+ * <p>
+ * The bump listeners run last among the after-commit listeners. Cached bodies are tagged with the
+ * version read before they were built, so the version may only move once {@link EntityCacheInvalidator}
+ * has evicted the stale service-tier entries. Bumping first would let a request read the new version,
+ * load the old cached data, and store it under the new ETag.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetVersion {
+
+    private final PersonRepository personRepository;
+    private final QuoteRepository quoteRepository;
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicLong version = new AtomicLong();
+
+    @PostConstruct
+    void seed() {
+        try {
+            long seed = Stream.of(personRepository.findLatestCreatedAt(),
+                            quoteRepository.findLatestCreatedAt(),
+                            categoryRepository.findLatestCreatedAt())
+                    .mapToLong(DatasetVersion::toMillis)
+                    .max()
+                    .orElse(0L);
+            version.set(Math.max(seed, System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Could not seed dataset version from created_at, starting from now: {}", e.getMessage());
+            version.set(System.currentTimeMillis());
+        }
+        log.info("Dataset version seeded at {}", version.get());
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteSaved(QuoteSavedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuotesImported(QuotesImportedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPeopleChanged(PeopleChangedEvent event) {
+        bump();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        bump();
+    }
+
+    private void bump() {
+        version.accumulateAndGet(System.currentTimeMillis(), (previous, now) -> Math.max(previous + 1, now));
+    }
+
+    private static long toMillis(LocalDateTime createdAt) {
+        return createdAt == null ? 0L : createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,86 @@
+package org.lite.quotes.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.config.CacheConfig;
+import org.lite.quotes.entity.Quote;
+import org.lite.quotes.event.CategoriesChangedEvent;
+import org.lite.quotes.event.PeopleChangedEvent;
+import org.lite.quotes.event.QuoteSavedEvent;
+import org.lite.quotes.event.QuotesImportedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts service-tier cache entries once the write that invalidates them has committed.
+ * A single saved quote only drops its author's quote list; bulk loads clear whole caches.
+ * Hibernate's second-level and query caches are not handled here: Hibernate keeps them consistent
+ * for its own writes, and {@link BatchIngestionEngine} marks the tables its JDBC loads write to.
+ * <p>
+ * Listeners run first among the after-commit listeners. {@link ResponseBodyCache} keys serialized bodies
+ * by {@link DatasetVersion}, so eviction has to finish before the version moves; otherwise stale entries
+ * could be serialized under the new version and kept until the next write.
+ * <p>
+ * Eviction cannot stop a load that read the old row before the commit from putting it back afterwards;
+ * the service-tier caches are {@link org.lite.quotes.config.VersionStampedCache}s, which drop such entries
+ * once the version has moved.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteSaved(QuoteSavedEvent event) {
+        Quote quote = event.getQuote();
+        if (quote.getPerson() != null && quote.getPerson().getId() != null) {
+            cache(CacheConfig.QUOTES_BY_PERSON).evict(quote.getPerson().getId());
+        } else {
+            cache(CacheConfig.QUOTES_BY_PERSON).clear();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuotesImported(QuotesImportedEvent event) {
+        clear(CacheConfig.QUOTES_BY_PERSON);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPeopleChanged(PeopleChangedEvent event) {
+        clear(CacheConfig.PEOPLE, CacheConfig.ALL_PEOPLE);
+        if (event.isReload()) {
+            // Quotes embed their person, so a forced reload invalidates cached quote lists too
+            clear(CacheConfig.QUOTES_BY_PERSON);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        clear(CacheConfig.CATEGORIES);
+    }
+
+    private void clear(String... names) {
+        for (String name : names) {
+            cache(name).clear();
+        }
+        log.debug("Cleared caches {}", (Object) names);
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + name + " is not configured");
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,287 @@
+package org.lite.quotes.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.config.BulkheadDataSource;
+import org.lite.quotes.config.HealthProperties;
+import org.lite.quotes.filter.LatencyRecorder;
+import org.lite.quotes.model.BulkheadStatistics;
+import org.lite.quotes.model.LatencyStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Samples JVM, database and latency figures on a schedule and publishes them as one immutable
+ * {@link HealthSnapshot}, so {@code /health} costs a volatile read however often Eureka and the gateway poll.
+ * Until the application is ready and the first sample is taken the snapshot reports DOWN.
+ */
+@Component
+@Slf4j
+public class HealthSampler {
+
+    private final HealthProperties properties;
+    private final LatencyRecorder latencyRecorder;
+    private final JdbcTemplate probeTemplate;
+    private final int probeTimeoutSeconds;
+    private final TransactionTemplate probeTransaction;
+    private final ExecutorService probeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final DataSource dataSource;
+    private final List<HikariDataSource> pools;
+
+    private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private volatile HealthSnapshot snapshot = HealthSnapshot.starting();
+    private volatile boolean ready;
+    private long lastSampleNanos;
+    private long lastGcMillis;
+    private long lastGcCount;
+
+    public HealthSampler(HealthProperties properties, LatencyRecorder latencyRecorder,
+                         DataSource dataSource, ObjectProvider<DataSource> dataSources,
+                         PlatformTransactionManager transactionManager) {
+        // JDBC timeouts are whole seconds; round up so a sub-second db-probe-timeout does not become "no timeout"
+        int probeTimeoutSeconds = (int) Math.max(1, (properties.getDbProbeTimeout().toMillis() + 999) / 1000);
+        this.properties = properties;
+        this.probeTimeoutSeconds = probeTimeoutSeconds;
+        this.latencyRecorder = latencyRecorder;
+        this.dataSource = dataSource;
+        this.probeTemplate = new JdbcTemplate(dataSource);
+        this.probeTemplate.setQueryTimeout(probeTimeoutSeconds);
+        // Read-only so the routing proxy hands out a reader connection instead of queueing behind imports on the writer
+        this.probeTransaction = new TransactionTemplate(transactionManager);
+        this.probeTransaction.setReadOnly(true);
+        this.probeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.probeTransaction.setTimeout(probeTimeoutSeconds);
+        this.pools = hikariPools(dataSources);
+    }
+
+    public HealthSnapshot current() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ready = true;
+        sample();
+    }
+
+    @Scheduled(fixedDelayString = "${quotes.health.sample-interval:5s}", initialDelayString = "${quotes.health.sample-interval:5s}")
+    public void sample() {
+        if (!ready) {
+            return;
+        }
+        try {
+            HealthSnapshot next = takeSample();
+            if (next.healthy() != snapshot.healthy()) {
+                log.warn("Health changed to {}: {}", next.healthy() ? "UP" : "DOWN", next.issues());
+            }
+            snapshot = next;
+        } catch (RuntimeException e) {
+            log.error("Health sampling failed: {}", e.getMessage());
+            snapshot = new HealthSnapshot(false, List.of("Sampling failed: " + e.getMessage()), snapshot.metrics(), Instant.now());
+        }
+    }
+
+    private synchronized HealthSnapshot takeSample() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        List<String> issues = new ArrayList<>();
+        long now = System.nanoTime();
+        boolean first = lastSampleNanos == 0;
+        long intervalMillis = first ? 0 : (now - lastSampleNanos) / 1_000_000;
+        lastSampleNanos = now;
+
+        // CPU and heap
+        metrics.put("cpu", osBean.getSystemLoadAverage());
+        if (osBean instanceof com.sun.management.OperatingSystemMXBean sunBean) {
+            metrics.put("processCpu", round(sunBean.getProcessCpuLoad() * 100));
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        double heapPercent = heap.getMax() > 0 ? (double) heap.getUsed() / heap.getMax() * 100 : 0;
+        metrics.put("memory", round(heapPercent));
+        if (heapPercent >= properties.getMaxHeapPercent()) {
+            issues.add("Heap usage " + round(heapPercent) + "%");
+        }
+
+        // GC time since the previous sample
+        long gcMillis = 0;
+        long gcCount = 0;
+        for (GarbageCollectorMXBean gc : gcBeans) {
+            gcMillis += Math.max(0, gc.getCollectionTime());
+            gcCount += Math.max(0, gc.getCollectionCount());
+        }
+        long gcPause = first ? 0 : gcMillis - lastGcMillis;
+        long gcRuns = first ? 0 : gcCount - lastGcCount;
+        double gcPercent = intervalMillis > 0 ? (double) gcPause / intervalMillis * 100 : 0;
+        metrics.put("gc.pauseMillis", (double) gcPause);
+        metrics.put("gc.count", (double) gcRuns);
+        metrics.put("gc.timePercent", round(gcPercent));
+        lastGcMillis = gcMillis;
+        lastGcCount = gcCount;
+        if (gcPercent >= properties.getMaxGcTimePercent()) {
+            issues.add("GC took " + round(gcPercent) + "% of the last interval");
+        }
+
+        // Platform threads; virtual threads are not counted by the MXBean
+        metrics.put("threads.live", (double) threadBean.getThreadCount());
+        metrics.put("threads.daemon", (double) threadBean.getDaemonThreadCount());
+        metrics.put("threads.peak", (double) threadBean.getPeakThreadCount());
+
+        // Connection pools and bulkhead
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                continue;
+            }
+            String prefix = "pool." + pool.getPoolName();
+            metrics.put(prefix + ".active", (double) mxBean.getActiveConnections());
+            metrics.put(prefix + ".idle", (double) mxBean.getIdleConnections());
+            metrics.put(prefix + ".waiting", (double) mxBean.getThreadsAwaitingConnection());
+            metrics.put(prefix + ".saturation", round((double) mxBean.getActiveConnections() / pool.getMaximumPoolSize() * 100));
+        }
+        if (dataSource instanceof BulkheadDataSource bulkhead) {
+            BulkheadStatistics statistics = bulkhead.getStatistics();
+            metrics.put("bulkhead.inUse", (double) statistics.getInUse());
+            metrics.put("bulkhead.waiting", (double) statistics.getWaiting());
+            metrics.put("bulkhead.rejected", (double) statistics.getRejected());
+        }
+
+        // Database round trip, connection acquisition included
+        long probeStart = System.nanoTime();
+        boolean dbUp = probeDatabase(issues);
+        double probeMillis = (System.nanoTime() - probeStart) / 1_000_000.0;
+        metrics.put("db.up", dbUp ? 1.0 : 0.0);
+        metrics.put("db.probeMillis", round(probeMillis));
+        if (dbUp && probeMillis > properties.getDbProbeTimeout().toMillis()) {
+            issues.add("Database probe took " + round(probeMillis) + " ms");
+        }
+
+        // Request latency as callers saw it: p95 overall, then per route
+        LatencyStatistics overall = latencyRecorder.getOverall();
+        metrics.put("responseTime", overall.getP95Millis());
+        metrics.put("throughput", overall.getThroughputPerSecond());
+        latencyRecorder.putRouteMetrics(metrics);
+
+        return new HealthSnapshot(issues.isEmpty(), List.copyOf(issues), Collections.unmodifiableMap(metrics), Instant.now());
+    }
+
+    @PreDestroy
+    void stop() {
+        probeExecutor.shutdownNow();
+    }
+
+    /*
+     * Runs SELECT 1 on its own virtual thread and waits at most db-probe-timeout for it, so a pool or bulkhead
+     * that makes callers wait for a connection marks the database slow rather than stalling the sampler.
+     * Interrupting the thread does not stop a JDBC call, so the statement carries its own query timeout and
+     * is cancelled when the wait gives up; either way the reader connection goes back to the pool.
+     */
+    private boolean probeDatabase(List<String> issues) {
+        AtomicReference<Statement> running = new AtomicReference<>();
+        Future<Integer> probe = probeExecutor.submit(() -> probeTransaction.execute(status ->
+                probeTemplate.execute((StatementCallback<Integer>) statement -> {
+                    // After the template's own settings, which may use the remaining transaction time instead
+                    statement.setQueryTimeout(probeTimeoutSeconds);
+                    running.set(statement);
+                    try (ResultSet result = statement.executeQuery("SELECT 1")) {
+                        return result.next() ? result.getInt(1) : null;
+                    } finally {
+                        running.set(null);
+                    }
+                })));
+        try {
+            probe.get(properties.getDbProbeTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            cancel(running.get());
+            probe.cancel(true);
+            issues.add("Database probe timed out after " + properties.getDbProbeTimeout().toMillis() + " ms");
+        } catch (ExecutionException e) {
+            issues.add("Database probe failed: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            probe.cancel(true);
+            Thread.currentThread().interrupt();
+            issues.add("Database probe interrupted");
+        }
+        return false;
+    }
+
+    private static void cancel(Statement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.debug("Could not cancel the database probe: {}", e.getMessage());
+        }
+    }
+
+    /* The Hikari pools behind the application's data sources, looking through proxies and the bulkhead */
+    private static List<HikariDataSource> hikariPools(ObjectProvider<DataSource> dataSources) {
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        dataSources.orderedStream().forEach(candidate -> {
+            if (candidate instanceof HikariDataSource hikari) {
+                pools.add(hikari);
+                return;
+            }
+            try {
+                if (candidate.isWrapperFor(HikariDataSource.class)) {
+                    pools.add(candidate.unwrap(HikariDataSource.class));
+                }
+            } catch (SQLException e) {
+                log.debug("Cannot unwrap data source {}: {}", candidate, e.getMessage());
+            }
+        });
+        return List.copyOf(pools);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * One immutable health sample. {@code issues} says why the service is DOWN; it is empty while healthy.
+     */
+    public record HealthSnapshot(boolean healthy, List<String> issues, Map<String, Double> metrics, Instant sampledAt) {
+        static HealthSnapshot starting() {
+            return new HealthSnapshot(false, List.of("Starting"), Map.of(), Instant.now());
+        }
+    }
+}
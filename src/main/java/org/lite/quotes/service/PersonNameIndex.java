@@ -0,0 +1,269 @@
+package org.lite.quotes.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.event.PeopleChangedEvent;
+import org.lite.quotes.model.PersonSuggestion;
+import org.lite.quotes.repository.PersonRepository;
+import org.lite.quotes.repository.PersonSuggestView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory typeahead index over people's full names and known-as names, so autocomplete never
+ * issues the {@code LIKE '%x%'} scan behind {@code findByFullNameContaining}.
+ * <p>
+ * Prefix matches come from a sorted array holding every word-start suffix of every name
+ * ("albert einstein", "einstein"), found by binary search. Infix matches of three or more characters
+ * intersect trigram postings and then verify the candidates. Like {@link PersonSamplingIndex} the
+ * index is an immutable snapshot rebuilt on {@link PeopleChangedEvent}; readers never block.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PersonNameIndex {
+
+    // Match kinds, best first
+    private static final int EXACT = 0;
+    private static final int NAME_PREFIX = 1;
+    private static final int WORD_PREFIX = 2;
+    private static final int INFIX = 3;
+
+    private static final int GRAM = 3;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final PersonRepository personRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPeopleChanged(PeopleChangedEvent event) {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        List<PersonSuggestView> people = personRepository.findAllSuggestKeys();
+        List<Person> persons = new ArrayList<>(people.size());
+        List<Name> names = new ArrayList<>(people.size() * 2);
+
+        for (PersonSuggestView view : people) {
+            int person = persons.size();
+            persons.add(new Person(view.getId(), view.getFullName(), view.getKnownAs(), view.getCategory()));
+            addName(names, person, view.getFullName(), true);
+            if (view.getKnownAs() != null && !view.getKnownAs().equalsIgnoreCase(view.getFullName())) {
+                addName(names, person, view.getKnownAs(), false);
+            }
+        }
+
+        List<PrefixKey> keys = new ArrayList<>();
+        Map<String, IntList> grams = new HashMap<>();
+        for (int n = 0; n < names.size(); n++) {
+            String text = names.get(n).normalized;
+            for (int i = 0; i < text.length(); i++) {
+                if (i == 0 || text.charAt(i - 1) == ' ') {
+                    keys.add(new PrefixKey(text.substring(i), n, i == 0));
+                }
+            }
+            // Names are visited in order, so every postings list stays sorted
+            for (String gram : trigrams(text)) {
+                grams.computeIfAbsent(gram, g -> new IntList()).add(n);
+            }
+        }
+        keys.sort(Comparator.comparing(PrefixKey::suffix));
+
+        String[] suffixes = new String[keys.size()];
+        int[] suffixNames = new int[keys.size()];
+        boolean[] suffixAtStart = new boolean[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            suffixes[i] = keys.get(i).suffix;
+            suffixNames[i] = keys.get(i).name;
+            suffixAtStart[i] = keys.get(i).atStart;
+        }
+        Map<String, int[]> postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, list) -> postings.put(gram, list.toArray()));
+
+        snapshot = new Snapshot(persons.toArray(new Person[0]), names.toArray(new Name[0]),
+                suffixes, suffixNames, suffixAtStart, postings);
+        log.info("Rebuilt person name index: {} people, {} names, {} trigrams",
+                persons.size(), names.size(), postings.size());
+    }
+
+    /**
+     * Returns up to {@code limit} people whose full name or known-as name matches the query, best first:
+     * exact name, then name prefix, then word prefix, then infix; ties prefer full names, then shorter names.
+     */
+    public List<PersonSuggestion> suggest(String query, int limit) {
+        String q = normalize(query);
+        Snapshot current = snapshot;
+        if (q.isEmpty() || limit <= 0 || current.names.length == 0) {
+            return List.of();
+        }
+
+        // Best match kind per name
+        Map<Integer, Integer> matches = new HashMap<>();
+        for (int i = lowerBound(current.suffixes, q); i < current.suffixes.length && current.suffixes[i].startsWith(q); i++) {
+            int name = current.suffixNames[i];
+            int kind = !current.suffixAtStart[i] ? WORD_PREFIX
+                    : current.names[name].normalized.length() == q.length() ? EXACT : NAME_PREFIX;
+            matches.merge(name, kind, Math::min);
+        }
+        if (q.length() >= GRAM) {
+            for (int name : infixCandidates(current, q)) {
+                if (current.names[name].normalized.contains(q)) {
+                    matches.putIfAbsent(name, INFIX);
+                }
+            }
+        }
+
+        // Keep each person's best matching name, then the top `limit` people
+        Comparator<Match> better = Comparator.comparingInt(Match::kind)
+                .thenComparing(m -> !current.names[m.name].fullName)
+                .thenComparingInt(m -> current.names[m.name].normalized.length())
+                .thenComparing(m -> current.names[m.name].normalized);
+        Map<Integer, Match> bestByPerson = new HashMap<>();
+        matches.forEach((name, kind) -> bestByPerson.merge(current.names[name].person, new Match(name, kind),
+                (a, b) -> better.compare(a, b) <= 0 ? a : b));
+
+        PriorityQueue<Match> top = new PriorityQueue<>(Math.min(limit, bestByPerson.size()) + 1, better.reversed());
+        for (Match match : bestByPerson.values()) {
+            top.offer(match);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        PersonSuggestion[] ranked = new PersonSuggestion[top.size()];
+        for (int rank = ranked.length - 1; rank >= 0; rank--) {
+            Match match = top.poll();
+            Name name = current.names[match.name];
+            Person person = current.persons[name.person];
+            ranked[rank] = new PersonSuggestion(person.id, person.fullName, person.knownAs, person.category, name.text);
+        }
+        return Arrays.asList(ranked);
+    }
+
+    public int size() {
+        return snapshot.persons.length;
+    }
+
+    private static int[] infixCandidates(Snapshot current, String q) {
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : trigrams(q)) {
+            int[] list = current.postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0, high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static void addName(List<Name> names, int person, String text, boolean fullName) {
+        String normalized = normalize(text);
+        if (!normalized.isEmpty()) {
+            names.add(new Name(person, text.trim(), normalized, fullName));
+        }
+    }
+
+    /* Lower case without accents, words separated by single spaces: "Émile  Zola-Jr." -> "emile zola jr" */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private record Person(long id, String fullName, String knownAs, String category) {
+    }
+
+    private record Name(int person, String text, String normalized, boolean fullName) {
+    }
+
+    private record PrefixKey(String suffix, int name, boolean atStart) {
+    }
+
+    private record Match(int name, int kind) {
+    }
+
+    private record Snapshot(Person[] persons,
+                            Name[] names,
+                            String[] suffixes,          // Sorted word-start suffixes of every name
+                            int[] suffixNames,          // Name each suffix belongs to
+                            boolean[] suffixAtStart,    // Whether the suffix is the whole name
+                            Map<String, int[]> postings) {
+        static final Snapshot EMPTY = new Snapshot(new Person[0], new Name[0], new String[0], new int[0],
+                new boolean[0], Map.of());
+    }
+
+    /* Growable primitive list used only while building a snapshot */
+    private static final class IntList {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.lite.quotes.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.event.PeopleChangedEvent;
+import org.lite.quotes.repository.PersonRepository;
+import org.lite.quotes.repository.PersonSamplingKey;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory index of person ids grouped by category and nationality, so a random pick is an
+ * array lookup instead of loading the whole people table. The index is an immutable snapshot
+ * that is swapped atomically on rebuild; readers never block.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PersonSamplingIndex {
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final PersonRepository personRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPeopleChanged(PeopleChangedEvent event) {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        List<PersonSamplingKey> keys = personRepository.findAllSamplingKeys();
+
+        long[] all = new long[keys.size()];
+        Map<String, LongList> byCategory = new HashMap<>();
+        Map<String, LongList> byNationality = new HashMap<>();
+        Map<String, LongList> byBoth = new HashMap<>();
+
+        for (int i = 0; i < keys.size(); i++) {
+            PersonSamplingKey key = keys.get(i);
+            long id = key.getId();
+            all[i] = id;
+            String category = normalize(key.getCategory());
+            String nationality = normalize(key.getNationality());
+            if (category != null) {
+                byCategory.computeIfAbsent(category, k -> new LongList()).add(id);
+            }
+            if (nationality != null) {
+                byNationality.computeIfAbsent(nationality, k -> new LongList()).add(id);
+            }
+            if (category != null && nationality != null) {
+                byBoth.computeIfAbsent(compositeKey(category, nationality), k -> new LongList()).add(id);
+            }
+        }
+
+        snapshot = new Snapshot(all, freeze(byCategory), freeze(byNationality), freeze(byBoth));
+        log.info("Rebuilt person sampling index: {} people, {} categories, {} nationalities",
+                all.length, byCategory.size(), byNationality.size());
+    }
+
+    /**
+     * Picks up to {@code count} distinct person ids matching the optional filters.
+     * Returns an empty array when nothing matches.
+     */
+    public long[] sample(String category, String nationality, int count) {
+        long[] candidates = candidates(category, nationality);
+        int n = candidates.length;
+        if (n == 0 || count <= 0) {
+            return NO_IDS;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (count == 1) {
+            return new long[]{candidates[random.nextInt(n)]};
+        }
+
+        int k = Math.min(count, n);
+        long[] result = new long[k];
+        // Floyd's algorithm: k distinct indexes in O(k) regardless of the candidate count
+        Set<Integer> chosen = new HashSet<>(k * 2);
+        int filled = 0;
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            int pick = chosen.add(t) ? t : j;
+            if (pick == j) {
+                chosen.add(j);
+            }
+            result[filled++] = candidates[pick];
+        }
+        // Floyd's selection is uniform as a set but not as a sequence
+        for (int i = k - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = result[i];
+            result[i] = result[j];
+            result[j] = tmp;
+        }
+        return result;
+    }
+
+    public int size() {
+        return snapshot.all.length;
+    }
+
+    private long[] candidates(String category, String nationality) {
+        Snapshot current = snapshot;
+        String c = normalize(category);
+        String n = normalize(nationality);
+        if (c != null && n != null) {
+            return current.byCategoryAndNationality.getOrDefault(compositeKey(c, n), NO_IDS);
+        }
+        if (c != null) {
+            return current.byCategory.getOrDefault(c, NO_IDS);
+        }
+        if (n != null) {
+            return current.byNationality.getOrDefault(n, NO_IDS);
+        }
+        return current.all;
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String compositeKey(String category, String nationality) {
+        return category + '\u0000' + nationality;
+    }
+
+    private static Map<String, long[]> freeze(Map<String, LongList> lists) {
+        Map<String, long[]> frozen = new HashMap<>(lists.size() * 2);
+        lists.forEach((key, list) -> frozen.put(key, list.toArray()));
+        return frozen;
+    }
+
+    private record Snapshot(long[] all,
+                            Map<String, long[]> byCategory,
+                            Map<String, long[]> byNationality,
+                            Map<String, long[]> byCategoryAndNationality) {
+        static final Snapshot EMPTY = new Snapshot(NO_IDS, Map.of(), Map.of(), Map.of());
+    }
+
+    /* Growable primitive list used only while building a snapshot */
+    private static final class LongList {
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
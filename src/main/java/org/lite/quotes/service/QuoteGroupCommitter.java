@@ -0,0 +1,187 @@
+package org.lite.quotes.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.config.GroupCommitProperties;
+import org.lite.quotes.entity.Quote;
+import org.lite.quotes.event.QuoteSavedEvent;
+import org.lite.quotes.repository.QuoteRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes quotes in one SQLite transaction each, or, when {@code quotes.group-commit.enabled} is set,
+ * funnels concurrent writers through a bounded queue into a single writer thread that commits
+ * up to {@code max-batch-size} quotes per transaction, waiting at most {@code max-delay} to fill a batch.
+ * A caller's future only completes after the transaction containing its quote has committed,
+ * so durability is the same as a direct save.
+ * <p>
+ * A caller that is already inside a transaction is saved inline, in that transaction: it may hold the
+ * only writer connection, which the writer thread would wait for while the caller waits for the writer,
+ * and its quote should roll back with the rest of its work anyway.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteGroupCommitter {
+
+    private final QuoteRepository quoteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GroupCommitProperties properties;
+
+    private BlockingQueue<PendingWrite> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        writer = new Thread(this::drainLoop, "quote-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Quote group commit enabled: up to {} quotes or {} per transaction",
+                properties.getMaxBatchSize(), properties.getMaxDelay());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        // The loop keeps draining until the queue is empty, so accepted writes are not lost
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        List<PendingWrite> stragglers = new ArrayList<>();
+        queue.drainTo(stragglers);
+        stragglers.forEach(write -> write.future.completeExceptionally(
+                new RejectedExecutionException("Quote group commit is shutting down")));
+    }
+
+    public CompletableFuture<Quote> submit(Quote quote) {
+        if (!running || TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return CompletableFuture.completedFuture(saveNow(quote));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        PendingWrite write = new PendingWrite(quote, quote.getId() == null, new CompletableFuture<>());
+        try {
+            if (!queue.offer(write, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                write.future.completeExceptionally(new RejectedExecutionException("Quote write queue is full"));
+            } else if (!running && queue.remove(write)) {
+                // stop() began after the check above and the writer may already have drained the queue;
+                // if nothing else took the write, nothing else will complete it
+                try {
+                    write.future.complete(saveNow(quote));
+                } catch (RuntimeException e) {
+                    write.future.completeExceptionally(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write.future.completeExceptionally(e);
+        }
+        return write.future;
+    }
+
+    private Quote saveNow(Quote quote) {
+        return transactionTemplate.execute(status -> persist(quote));
+    }
+
+    private Quote persist(Quote quote) {
+        Quote saved = quoteRepository.save(quote);
+        eventPublisher.publishEvent(new QuoteSavedEvent(saved));
+        return saved;
+    }
+
+    private void drainLoop() {
+        List<PendingWrite> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in quote group commit loop", e);
+                batch.forEach(write -> write.future.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<PendingWrite> batch) throws InterruptedException {
+        int max = properties.getMaxBatchSize();
+        queue.drainTo(batch, max - batch.size());
+        long deadline = System.nanoTime() + properties.getMaxDelay().toNanos();
+        while (batch.size() < max) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, max - batch.size());
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        try {
+            List<Quote> saved = transactionTemplate.execute(status -> {
+                List<Quote> result = new ArrayList<>(batch.size());
+                for (PendingWrite write : batch) {
+                    result.add(persist(write.quote));
+                }
+                return result;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            // One bad quote must not fail the others: retry each in its own transaction
+            log.warn("Group commit of {} quotes failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (PendingWrite write : batch) {
+                if (write.isNew) {
+                    // The rolled-back insert may already have assigned an identity value
+                    write.quote.setId(null);
+                }
+                try {
+                    write.future.complete(saveNow(write.quote));
+                } catch (RuntimeException individual) {
+                    write.future.completeExceptionally(individual);
+                }
+            }
+        }
+    }
+
+    private record PendingWrite(Quote quote, boolean isNew, CompletableFuture<Quote> future) {
+    }
+}
@@ -0,0 +1,370 @@
+package org.lite.quotes.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.entity.Quote;
+import org.lite.quotes.event.QuoteSavedEvent;
+import org.lite.quotes.event.QuotesImportedEvent;
+import org.lite.quotes.repository.QuoteRepository;
+import org.lite.quotes.repository.QuoteTextView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over quote text with BM25 ranking, behind the paged search endpoint.
+ * Unlike the {@code LIKE '%x%'} scan SQLite does for {@code findByQuoteTextContainingIgnoreCase},
+ * which still serves the unranked {@code searchQuotes(String)}, a query only touches the postings of its own terms.
+ * <p>
+ * Built from the database once the application is ready and kept in sync through
+ * {@link QuoteSavedEvent}. A re-saved quote tombstones its old document and indexes the new text;
+ * a bulk import ({@link QuotesImportedEvent}) indexes only the rows past the highest id already
+ * scanned from the database. Those rows are streamed outside the lock and added in small batches,
+ * so searches keep running while an import is indexed.
+ * <p>
+ * Tombstoned documents are compacted away once they make up a quarter of the index (and at least
+ * {@value #MIN_TOMBSTONES_TO_COMPACT}), so frequently re-saved quotes do not grow it without bound.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int IMPORT_BATCH = 500;       // Documents added per write-lock hold while indexing an import
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final QuoteRepository quoteRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByQuoteId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] quoteIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private int liveDocs;
+    private long liveLength;
+    private long scannedThroughId;      // Highest id read by a database scan; single saves do not move it
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteSaved(QuoteSavedEvent event) {
+        Quote quote = event.getQuote();
+        if (quote.getId() != null) {
+            index(quote.getId(), quote.getQuoteText());
+        }
+    }
+
+    // After commit the import's transaction is finished but still bound, so the stream needs its own
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void onQuotesImported(QuotesImportedEvent event) {
+        indexImported();
+    }
+
+    /* Must run inside a (read-only) transaction because it consumes a repository stream */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<QuoteTextView> quotes = quoteRepository.streamAllTexts()) {
+                quotes.forEach(q -> {
+                    addDocument(q.getId(), q.getQuoteText());
+                    scannedThroughId = Math.max(scannedThroughId, q.getId());
+                });
+            }
+            log.info("Built quote search index: {} quotes, {} terms", liveDocs, postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* Must run inside a (read-only) transaction because it consumes a repository stream */
+    public void indexImported() {
+        long afterId;
+        lock.readLock().lock();
+        try {
+            afterId = scannedThroughId;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int added = 0;
+        List<QuoteTextView> batch = new ArrayList<>(IMPORT_BATCH);
+        try (Stream<QuoteTextView> quotes = quoteRepository.streamTextsAfter(afterId)) {
+            Iterator<QuoteTextView> it = quotes.iterator();
+            while (it.hasNext()) {
+                batch.add(it.next());
+                if (batch.size() == IMPORT_BATCH) {
+                    added += addBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        added += addBatch(batch);
+        log.info("Indexed {} imported quotes after id {}", added, afterId);
+    }
+
+    public void index(long quoteId, String text) {
+        lock.writeLock().lock();
+        try {
+            replaceDocument(quoteId, text);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks quotes matching any of the query terms by BM25 and returns the requested page.
+     * Documents matching more (and rarer) terms score higher.
+     */
+    public SearchHits search(String query, int limit, int offset) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return SearchHits.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return SearchHits.EMPTY;
+            }
+            float avgDocLength = (float) liveLength / liveDocs;
+            Map<Integer, Float> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (liveDocs - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    int tf = list.freqs[i];
+                    float norm = K1 * (1 - B + B * docLengths[doc] / avgDocLength);
+                    scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Float::sum);
+                }
+            }
+
+            int total = scores.size();
+            int wanted = offset + limit;
+            if (offset >= total) {
+                return new SearchHits(total, new long[0], new float[0]);
+            }
+
+            // Min-heap of the best `wanted` docs; ties keep the older quote first
+            Comparator<Map.Entry<Integer, Float>> worstFirst = Map.Entry.<Integer, Float>comparingByValue()
+                    .thenComparing(Map.Entry.<Integer, Float>comparingByKey().reversed());
+            PriorityQueue<Map.Entry<Integer, Float>> top = new PriorityQueue<>(Math.min(wanted, total) + 1, worstFirst);
+            for (Map.Entry<Integer, Float> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            }
+
+            int ranked = top.size();
+            int pageSize = ranked - offset;
+            long[] ids = new long[pageSize];
+            float[] pageScores = new float[pageSize];
+            for (int rank = ranked - 1; rank >= 0; rank--) {
+                Map.Entry<Integer, Float> entry = top.poll();
+                if (rank >= offset) {
+                    ids[rank - offset] = quoteIds[entry.getKey()];
+                    pageScores[rank - offset] = entry.getValue();
+                }
+            }
+            return new SearchHits(total, ids, pageScores);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        text.codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(Character.toLowerCase(cp));
+            } else {
+                flush(current, tokens);
+            }
+        });
+        flush(current, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (current.length() >= MIN_TOKEN_LENGTH) {
+            tokens.add(current.toString());
+        }
+        current.setLength(0);
+    }
+
+    private int addBatch(List<QuoteTextView> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        lock.writeLock().lock();
+        try {
+            for (QuoteTextView quote : batch) {
+                // Saved individually while the import ran, or scanned by a concurrent import; keep one document
+                replaceDocument(quote.getId(), quote.getQuoteText());
+                scannedThroughId = Math.max(scannedThroughId, quote.getId());
+            }
+            compactIfNeeded();
+            return batch.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replaceDocument(long quoteId, String text) {
+        Integer previous = docByQuoteId.get(quoteId);
+        if (previous != null) {
+            deleted.set(previous);
+            liveDocs--;
+            liveLength -= docLengths[previous];
+        }
+        addDocument(quoteId, text);
+    }
+
+    private void addDocument(long quoteId, String text) {
+        List<String> tokens = tokenize(text);
+        int doc = docCount++;
+        if (doc == quoteIds.length) {
+            quoteIds = Arrays.copyOf(quoteIds, doc * 2);
+            docLengths = Arrays.copyOf(docLengths, doc * 2);
+        }
+        quoteIds[doc] = quoteId;
+        docLengths[doc] = tokens.size();
+        docByQuoteId.put(quoteId, doc);
+        liveDocs++;
+        liveLength += tokens.size();
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new Postings()).add(doc, tf));
+    }
+
+    private void compactIfNeeded() {
+        int tombstones = docCount - liveDocs;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones >= docCount / 4) {
+            compact();
+        }
+    }
+
+    /* Renumbers the live documents from 0 in their current order, so every postings list stays sorted */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = live;
+                quoteIds[live] = quoteIds[doc];
+                docLengths[live] = docLengths[doc];
+                live++;
+            }
+        }
+        int tombstones = docCount - live;
+        postings.values().removeIf(list -> list.compact(remap) == 0);
+        docByQuoteId.replaceAll((quoteId, doc) -> remap[doc]);
+        deleted.clear();
+        docCount = live;
+        int capacity = Math.max(1024, Integer.highestOneBit(Math.max(1, live)) * 2);
+        if (capacity < quoteIds.length) {
+            quoteIds = Arrays.copyOf(quoteIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+        log.debug("Compacted quote search index: dropped {} tombstones, {} quotes left", tombstones, live);
+    }
+
+    private void clear() {
+        postings.clear();
+        docByQuoteId.clear();
+        deleted.clear();
+        quoteIds = new long[1024];
+        docLengths = new int[1024];
+        docCount = 0;
+        liveDocs = 0;
+        liveLength = 0;
+        scannedThroughId = 0;
+    }
+
+    /**
+     * One page of ranked results. {@code total} counts every matching quote, not just this page.
+     */
+    public record SearchHits(int total, long[] quoteIds, float[] scores) {
+        static final SearchHits EMPTY = new SearchHits(0, new long[0], new float[0]);
+    }
+
+    /* Document ids are appended in increasing order, so each list stays sorted */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        /* Drops documents mapped to -1 and renumbers the rest; returns the new size */
+        int compact(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return size;
+        }
+    }
+}
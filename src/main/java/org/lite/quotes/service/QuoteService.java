@@ -1,19 +1,48 @@
 package org.lite.quotes.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import org.lite.quotes.entity.Category;
 import org.lite.quotes.entity.Person;
 import org.lite.quotes.entity.Quote;
 
-import jakarta.transaction.Transactional;
+import org.lite.quotes.model.CursorPage;
+import org.lite.quotes.model.QuoteSearchResponse;
+import org.lite.quotes.model.QuoteWithAuthor;
 import org.springframework.stereotype.Service;
 
 @Service
 public interface QuoteService {
     
-    @Transactional
+    // Transactions are managed by QuoteGroupCommitter, which may batch concurrent saves into one commit
     Quote saveQuote(Quote quote);
+    CompletableFuture<Quote> saveQuoteAsync(Quote quote);
     List<Person> getAllPeople() ;
+    Optional<Person> getPerson(Long id);
+    // Found people in the order of ids; unknown ids are skipped
+    List<Person> getPeopleByIds(Collection<Long> ids);
+    List<Category> getAllCategories();
     List<Quote> getQuotesByPersonId(Long personId);
+    // Quote lists keyed by person id in the order of ids; people without quotes map to an empty list
+    Map<Long, List<Quote>> getQuotesByPersonIds(Collection<Long> personIds);
+    // Every quote containing the text, ignoring case; the paged overload ranks by relevance instead
     List<Quote> searchQuotes(String query);
+    QuoteSearchResponse searchQuotes(String query, int limit, int offset);
+
+    // Keyset pagination: pass the previous page's nextCursor as afterId
+    CursorPage<Person> getPeoplePage(Long afterId, int limit);
+    CursorPage<Quote> getQuotesPage(Long personId, Long afterId, int limit);
+
+    // Projection reads: one select of quote columns plus an author summary, no entities
+    List<QuoteWithAuthor> getQuotesWithAuthorByPersonId(Long personId);
+    CursorPage<QuoteWithAuthor> getQuotesWithAuthorPage(Long personId, Long afterId, int limit);
+
+    // Streams every row to the sink inside one read-only transaction with bounded memory
+    void exportPeople(Consumer<Person> sink);
+    void exportQuotes(Long personId, Consumer<Quote> sink);
 }
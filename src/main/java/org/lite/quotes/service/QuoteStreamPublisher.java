@@ -0,0 +1,428 @@
+package org.lite.quotes.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lite.quotes.config.QuoteStreamProperties;
+import org.lite.quotes.config.QuoteStreamProperties.OverflowPolicy;
+import org.lite.quotes.entity.Person;
+import org.lite.quotes.entity.Quote;
+import org.lite.quotes.event.QuoteSavedEvent;
+import org.lite.quotes.event.QuotesImportedEvent;
+import org.lite.quotes.model.QuoteStreamStatistics;
+import org.lite.quotes.model.QuoteWithAuthor;
+import org.lite.quotes.repository.QuoteRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes committed quotes to Server-Sent Event subscribers. Each subscriber has a bounded buffer
+ * drained by its own virtual thread, so a slow client only ever delays itself; publishing never blocks.
+ * <p>
+ * When a buffer is full, {@code COALESCE} replaces its contents with a single catch-up that reads
+ * the missed quotes back from the database by keyset after the last id sent, and {@code DROP_OLDEST}
+ * discards quotes and sends a {@code dropped} event with the count. Dropped quotes are gone for that
+ * subscriber: the event carries the highest dropped id as its event id, and the stream continues after
+ * it, so neither a catch-up nor a reconnect with Last-Event-ID sends them again. A quote whose callback
+ * arrives only after a later quote was dropped is skipped as well. Bulk imports insert through JDBC
+ * and only report a count, so they put every subscriber into catch-up. Event ids are quote ids,
+ * which lets a reconnecting client resume with Last-Event-ID.
+ * <p>
+ * Live quotes are only sent while they continue the id sequence. After-commit callbacks can arrive
+ * out of id order, so a quote that does not follow the last id sent, whether it skips ahead or falls
+ * behind, turns into a catch-up. SQLite commits one writer at a time, so once a quote is visible
+ * every lower id is visible too, and the keyset read fills the gap in order.
+ * <p>
+ * Catch-up pages are read by the publisher, not per subscriber. After an import every subscriber
+ * asks for the page after the same id, and concurrent requests for one page share a single query.
+ * At most {@code max-concurrent-replays} distinct pages are read at once, well under the database
+ * bulkhead. A failed read is retried after {@code replay-retry-delay} rather than disconnecting the
+ * client, which would only reconnect and replay again.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteStreamPublisher {
+
+    public static final String QUOTE_EVENT = "quote";
+    public static final String DROPPED_EVENT = "dropped";
+
+    private final QuoteRepository quoteRepository;
+    private final QuoteStreamProperties properties;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastPublishedId = new AtomicLong();
+    private final ConcurrentHashMap<Long, CompletableFuture<List<QuoteWithAuthor>>> pageReads = new ConcurrentHashMap<>();
+    private Semaphore replayPermits;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder replayQueries = new LongAdder();
+    private final LongAdder replayFailures = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        replayPermits = new Semaphore(Math.max(1, properties.getMaxConcurrentReplays()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshLastPublishedId();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuoteSaved(QuoteSavedEvent event) {
+        Quote quote = event.getQuote();
+        if (quote.getId() == null || quote.getPerson() == null) {
+            return;
+        }
+        Person person = quote.getPerson();
+        if (person.getFullName() == null) {
+            // Saved against a bare person reference; let subscribers read the joined row instead
+            lastPublishedId.accumulateAndGet(quote.getId(), Math::max);
+            published.increment();
+            subscribers.forEach(Subscriber::requestCatchUp);
+            return;
+        }
+        QuoteWithAuthor item = new QuoteWithAuthor(quote.getId(), quote.getQuoteText(), quote.getSource(), quote.getYear(),
+                person.getId(), person.getFullName(), person.getKnownAs(), person.getCategory());
+        lastPublishedId.accumulateAndGet(quote.getId(), Math::max);
+        published.increment();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(item);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuotesImported(QuotesImportedEvent event) {
+        refreshLastPublishedId();
+        published.add(event.getInserted());
+        for (Subscriber subscriber : subscribers) {
+            subscriber.requestCatchUp();
+        }
+    }
+
+    /**
+     * Registers a subscriber that receives every quote committed after {@code lastEventId}, or after
+     * the newest quote if it is null. A {@code lastEventId} beyond the newest quote, say one kept from
+     * before the database was recreated, resumes from the newest quote instead. Returns null when
+     * {@code max-subscribers} is reached.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            rejected.increment();
+            return null;
+        }
+        SseEmitter emitter = createEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, resumeAfter(lastEventId));
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        if (lastEventId != null) {
+            subscriber.requestCatchUp();
+        }
+        Thread.ofVirtual().name("quote-stream-subscriber").start(subscriber::run);
+        return emitter;
+    }
+
+    // Overridden by tests to capture what subscribers are sent
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    public QuoteStreamStatistics getStatistics() {
+        return new QuoteStreamStatistics(
+                subscribers.size(),
+                properties.getOverflowPolicy().name(),
+                published.sum(),
+                delivered.sum(),
+                replayed.sum(),
+                dropped.sum(),
+                coalesced.sum(),
+                rejected.sum(),
+                replayQueries.sum(),
+                replayFailures.sum());
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /*
+     * Reads the page after afterId, joining a read of the same page already in flight when shared is true.
+     * A joined read may have started before the caller's catch-up was requested, which PageRead records.
+     */
+    private PageRead readPage(long afterId, boolean shared) throws InterruptedException {
+        CompletableFuture<List<QuoteWithAuthor>> read = new CompletableFuture<>();
+        if (shared) {
+            CompletableFuture<List<QuoteWithAuthor>> inFlight = pageReads.putIfAbsent(afterId, read);
+            if (inFlight != null) {
+                return new PageRead(await(inFlight), true);
+            }
+        }
+        try {
+            replayPermits.acquire();
+            try {
+                replayQueries.increment();
+                read.complete(quoteRepository.findWithAuthorAfter(afterId, Limit.of(properties.getReplayPageSize())));
+            } finally {
+                replayPermits.release();
+            }
+        } catch (RuntimeException | InterruptedException e) {
+            read.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (shared) {
+                pageReads.remove(afterId, read);
+            }
+        }
+        return new PageRead(read.join(), false);
+    }
+
+    private static List<QuoteWithAuthor> await(CompletableFuture<List<QuoteWithAuthor>> read) throws InterruptedException {
+        try {
+            return read.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new DataAccessResourceFailureException("Shared catch-up read failed", e.getCause());
+        }
+    }
+
+    /*
+     * No live quote would ever follow an id past the newest one, so every publish would only trigger an
+     * empty catch-up. The newest id is re-read first in case this instance has not seen a recent import.
+     */
+    private long resumeAfter(Long lastEventId) {
+        if (lastEventId == null) {
+            return lastPublishedId.get();
+        }
+        if (lastEventId > lastPublishedId.get()) {
+            refreshLastPublishedId();
+        }
+        return Math.max(0, Math.min(lastEventId, lastPublishedId.get()));
+    }
+
+    private void refreshLastPublishedId() {
+        Long maxId = quoteRepository.findMaxId();
+        if (maxId != null) {
+            lastPublishedId.accumulateAndGet(maxId, Math::max);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();     // Not synchronized: waiting must not pin the carrier thread
+        private final Condition changed = lock.newCondition();
+
+        // Guarded by lock
+        private final ArrayDeque<QuoteWithAuthor> buffer = new ArrayDeque<>();
+        private boolean catchUp;
+        private long droppedSinceNotice;
+        private long droppedThroughId;      // Highest id discarded under DROP_OLDEST
+        private boolean closed;
+
+        // Only touched by the subscriber's own thread
+        private long lastSentId;
+
+        Subscriber(SseEmitter emitter, long lastSentId) {
+            this.emitter = emitter;
+            this.lastSentId = lastSentId;
+        }
+
+        void offer(QuoteWithAuthor quote) {
+            lock.lock();
+            try {
+                if (closed || catchUp) {
+                    // A pending catch-up reads this quote from the database anyway
+                    return;
+                }
+                if (buffer.size() >= properties.getBufferSize()) {
+                    if (properties.getOverflowPolicy() == OverflowPolicy.COALESCE) {
+                        buffer.clear();
+                        catchUp = true;
+                        coalesced.increment();
+                        changed.signal();
+                        return;
+                    }
+                    droppedThroughId = Math.max(droppedThroughId, buffer.pollFirst().getId());
+                    droppedSinceNotice++;
+                    dropped.increment();
+                }
+                buffer.addLast(quote);
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void requestCatchUp() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    buffer.clear();
+                    catchUp = true;
+                    changed.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                buffer.clear();
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void run() {
+            try {
+                while (true) {
+                    boolean replay;
+                    long droppedNow;
+                    long droppedThrough;
+                    QuoteWithAuthor next;
+                    lock.lock();
+                    try {
+                        long remaining = properties.getHeartbeat().toNanos();
+                        while (!closed && !catchUp && droppedSinceNotice == 0 && buffer.isEmpty() && remaining > 0) {
+                            remaining = changed.awaitNanos(remaining);
+                        }
+                        if (closed) {
+                            return;
+                        }
+                        // Cleared before reading, so an overflow during the replay schedules another one
+                        replay = catchUp;
+                        catchUp = false;
+                        droppedNow = droppedSinceNotice;
+                        droppedThrough = droppedThroughId;
+                        droppedSinceNotice = 0;
+                        next = replay ? null : buffer.pollFirst();
+                    } finally {
+                        lock.unlock();
+                    }
+
+                    if (droppedNow > 0) {
+                        // Skip past the dropped quotes, so the gap they leave does not trigger a catch-up
+                        lastSentId = Math.max(lastSentId, droppedThrough);
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(lastSentId))
+                                .name(DROPPED_EVENT)
+                                .data(droppedNow));
+                    }
+                    if (replay) {
+                        if (!replay()) {
+                            Thread.sleep(properties.getReplayRetryDelay());
+                            requestCatchUp();
+                        }
+                    } else if (next != null) {
+                        if (next.getId() == lastSentId + 1) {
+                            send(next);
+                        } else {
+                            // Out of order or a gap; the database has every committed quote in id order
+                            requestCatchUp();
+                        }
+                    } else if (droppedNow == 0) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                log.debug("Quote stream subscriber closed: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Quote stream subscriber failed", e);
+                emitter.completeWithError(e);
+            } finally {
+                subscribers.remove(this);
+                close();
+            }
+        }
+
+        /* Returns false if the database could not be read and the catch-up should be retried */
+        private boolean replay() throws IOException, InterruptedException {
+            int pageSize = properties.getReplayPageSize();
+            // Everything published before this catch-up was requested must be sent before it ends
+            long target = lastPublishedId.get();
+            boolean shared = true;
+            try {
+                while (!isClosed()) {
+                    PageRead read = readPage(lastSentId, shared);
+                    for (QuoteWithAuthor quote : read.quotes()) {
+                        send(quote);
+                        replayed.increment();
+                    }
+                    if (read.quotes().size() == pageSize) {
+                        continue;
+                    }
+                    if (!read.joined() || lastSentId >= target) {
+                        return true;
+                    }
+                    // A short page from a read that started earlier can miss quotes committed since; read it ourselves
+                    shared = false;
+                }
+                return true;
+            } catch (DataAccessException | TransactionException e) {
+                replayFailures.increment();
+                log.debug("Quote stream catch-up after {} failed, retrying: {}", lastSentId, e.getMessage());
+                return false;
+            }
+        }
+
+        private void send(QuoteWithAuthor quote) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(quote.getId()))
+                    .name(QUOTE_EVENT)
+                    .data(quote, MediaType.APPLICATION_JSON));
+            lastSentId = quote.getId();
+            delivered.increment();
+        }
+
+        private boolean isClosed() {
+            lock.lock();
+            try {
+                return closed;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record PageRead(List<QuoteWithAuthor> quotes, boolean joined) {
+    }
+}
@@ -0,0 +1,125 @@
+package org.lite.quotes.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.lite.quotes.config.CacheConfig;
+import org.lite.quotes.entity.Person;
+import org.lite.quotes.model.PersonResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Serialized UTF-8 JSON of hot responses, so repeat reads skip object mapping and Jackson and the
+ * controllers write the cached bytes as they are. Keys include the {@link DatasetVersion}: after a
+ * committed write every older entry becomes unreachable and simply ages out of the bounded cache.
+ * <p>
+ * Bodies are read through {@link QuoteService}'s caches. That is only safe because those are
+ * {@link org.lite.quotes.config.VersionStampedCache}s: an entry loaded before a write committed is
+ * never served under a later version, so stale bytes cannot be filed under the new key.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCache {
+
+    private static final String PERSON = "person";
+    private static final String QUOTES_BY_PERSON = "quotesByPerson";
+
+    private final CacheManager cacheManager;
+    private final QuoteService quoteService;
+    private final DatasetVersion datasetVersion;
+    private final ObjectMapper objectMapper;
+
+    /* The person as a PersonResponse, or null if there is no such person */
+    public byte[] person(long id) {
+        return get(new Key(PERSON, id, datasetVersion.current()),
+                () -> quoteService.getPerson(id).map(PersonResponse::from).orElse(null));
+    }
+
+    /* JSON array of the people in the given order; unknown ids are skipped. Misses are loaded in one batch */
+    public byte[] people(long[] ids) {
+        long version = datasetVersion.current();
+        Cache cache = cache();
+        byte[][] bodies = new byte[ids.length][];
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            Cache.ValueWrapper cached = cache.get(new Key(PERSON, ids[i], version));
+            if (cached != null) {
+                bodies[i] = (byte[]) cached.get();
+            } else {
+                misses.add(ids[i]);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, byte[]> loaded = new HashMap<>(misses.size() * 2);
+            for (Person person : quoteService.getPeopleByIds(misses)) {
+                byte[] body = serialize(PersonResponse.from(person));
+                cache.put(new Key(PERSON, person.getId(), version), body);
+                loaded.put(person.getId(), body);
+            }
+            for (int i = 0; i < ids.length; i++) {
+                if (bodies[i] == null) {
+                    bodies[i] = loaded.get(ids[i]);
+                }
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.length * 256);
+        out.write('[');
+        boolean first = true;
+        for (byte[] person : bodies) {
+            if (person != null) {
+                if (!first) {
+                    out.write(',');
+                }
+                out.writeBytes(person);
+                first = false;
+            }
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    /* Every quote of the person; an empty array for unknown people */
+    public byte[] quotesByPerson(long personId) {
+        return get(new Key(QUOTES_BY_PERSON, personId, datasetVersion.current()),
+                () -> quoteService.getQuotesByPersonId(personId));
+    }
+
+    private byte[] get(Key key, Supplier<Object> body) {
+        // The version is read before the body, and the service caches behind the body only serve entries
+        // stamped with the current version, so bytes filed under a version reflect at least that version's writes
+        return cache().get(key, () -> {
+            Object value = body.get();
+            return value == null ? null : serialize(value);
+        });
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CacheConfig.RESPONSE_BODIES);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CacheConfig.RESPONSE_BODIES + " is not configured");
+        }
+        return cache;
+    }
+
+    private record Key(String kind, long id, long version) {
+    }
+}
@@ -1,31 +1,81 @@
 package org.lite.quotes.service.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.lite.quotes.config.CacheConfig;
+import org.lite.quotes.config.VersionStampedCache;
+import org.lite.quotes.entity.Category;
 import org.lite.quotes.entity.Person;
 import org.lite.quotes.entity.Quote;
+import org.lite.quotes.model.CursorPage;
+import org.lite.quotes.model.QuoteSearchHit;
+import org.lite.quotes.model.QuoteSearchResponse;
+import org.lite.quotes.model.QuoteWithAuthor;
+import org.lite.quotes.repository.CategoryRepository;
 import org.lite.quotes.repository.PersonRepository;
 import org.lite.quotes.repository.QuoteRepository;
+import org.lite.quotes.service.QuoteGroupCommitter;
+import org.lite.quotes.service.QuoteSearchIndex;
 import org.lite.quotes.service.QuoteService;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 
 @Service
 @AllArgsConstructor
 public class QuoteServiceImpl implements QuoteService{
 
+    // SQLite's default SQLITE_MAX_VARIABLE_NUMBER before 3.32; IN lists are split to stay under it everywhere
+    private static final int MAX_IN_PARAMETERS = 999;
+    // Quotes written between persistence context clears in exportQuotes
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     private final PersonRepository personRepository;
     private final QuoteRepository quoteRepository;
+    private final CategoryRepository categoryRepository;
+    private final QuoteSearchIndex quoteSearchIndex;
+    private final QuoteGroupCommitter groupCommitter;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
 
-    @Transactional
     @Override
     public Quote saveQuote(Quote quote) {
-        return quoteRepository.save(quote);
+        try {
+            return saveQuoteAsync(quote).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Quote> saveQuoteAsync(Quote quote) {
+        return groupCommitter.submit(quote);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.QUOTES_BY_PERSON, key = "#personId", sync = true)
     public List<Quote> getQuotesByPersonId(Long personId) {
         return quoteRepository.findByPersonId(personId);
     }
@@ -36,8 +86,178 @@ public class QuoteServiceImpl implements QuoteService{
     }
 
     @Override
+    public QuoteSearchResponse searchQuotes(String query, int limit, int offset) {
+        QuoteSearchIndex.SearchHits hits = quoteSearchIndex.search(query, limit, offset);
+
+        // One IN query for the page, then put the rows back in rank order
+        Map<Long, Quote> quotesById = quoteRepository.findAllById(Arrays.stream(hits.quoteIds()).boxed().toList())
+                .stream()
+                .collect(Collectors.toMap(Quote::getId, Function.identity()));
+
+        List<QuoteSearchHit> results = new ArrayList<>(hits.quoteIds().length);
+        for (int i = 0; i < hits.quoteIds().length; i++) {
+            Quote quote = quotesById.get(hits.quoteIds()[i]);
+            if (quote != null) {
+                results.add(new QuoteSearchHit(quote, hits.scores()[i]));
+            }
+        }
+        return new QuoteSearchResponse(query, hits.total(), limit, offset, results);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ALL_PEOPLE, key = "'all'", sync = true)
     public List<Person> getAllPeople() {
         return personRepository.findAll();
     }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PEOPLE, key = "#id", sync = true)
+    public Optional<Person> getPerson(Long id) {
+        return personRepository.findById(id);
+    }
+
+    @Override
+    public List<Person> getPeopleByIds(Collection<Long> ids) {
+        // Same cache as getPerson; only the misses go to the database, in one IN query per chunk
+        VersionStampedCache cache = versionStamped(CacheConfig.PEOPLE);
+        long version = cache.version();
+        Map<Long, Person> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            Person cached = cache.get(id, Person.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        for (List<Long> chunk : chunks(misses)) {
+            for (Person person : personRepository.findAllById(chunk)) {
+                cache.put(person.getId(), person, version);
+                found.put(person.getId(), person);
+            }
+        }
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Map<Long, List<Quote>> getQuotesByPersonIds(Collection<Long> personIds) {
+        // Same cache as getQuotesByPersonId; the misses are read with one IN query per chunk
+        VersionStampedCache cache = versionStamped(CacheConfig.QUOTES_BY_PERSON);
+        long version = cache.version();
+        Map<Long, List<Quote>> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long personId : personIds) {
+            @SuppressWarnings("unchecked")
+            List<Quote> cached = cache.get(personId, List.class);
+            if (cached != null) {
+                found.put(personId, cached);
+            } else if (!found.containsKey(personId)) {
+                found.put(personId, new ArrayList<>());
+                misses.add(personId);
+            }
+        }
+        for (List<Long> chunk : chunks(misses)) {
+            for (Quote quote : quoteRepository.findByPersonIdInOrderByIdAsc(chunk)) {
+                found.get(quote.getPerson().getId()).add(quote);
+            }
+        }
+        misses.forEach(personId -> cache.put(personId, found.get(personId), version));
+
+        Map<Long, List<Quote>> result = new LinkedHashMap<>();
+        personIds.forEach(personId -> result.put(personId, found.get(personId)));
+        return result;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'all'", sync = true)
+    public List<Category> getAllCategories() {
+        return categoryRepository.findAll();
+    }
+
+    @Override
+    public CursorPage<Person> getPeoplePage(Long afterId, int limit) {
+        List<Person> rows = personRepository.findByIdGreaterThanOrderByIdAsc(cursor(afterId), Limit.of(limit + 1));
+        return toPage(rows, limit, Person::getId);
+    }
+
+    @Override
+    public CursorPage<Quote> getQuotesPage(Long personId, Long afterId, int limit) {
+        List<Quote> rows = personId == null
+                ? quoteRepository.findByIdGreaterThanOrderByIdAsc(cursor(afterId), Limit.of(limit + 1))
+                : quoteRepository.findByPersonIdAndIdGreaterThanOrderByIdAsc(personId, cursor(afterId), Limit.of(limit + 1));
+        return toPage(rows, limit, Quote::getId);
+    }
+
+    @Override
+    public List<QuoteWithAuthor> getQuotesWithAuthorByPersonId(Long personId) {
+        return quoteRepository.findWithAuthorByPersonId(personId);
+    }
+
+    @Override
+    public CursorPage<QuoteWithAuthor> getQuotesWithAuthorPage(Long personId, Long afterId, int limit) {
+        List<QuoteWithAuthor> rows = personId == null
+                ? quoteRepository.findWithAuthorAfter(cursor(afterId), Limit.of(limit + 1))
+                : quoteRepository.findWithAuthorByPersonIdAfter(personId, cursor(afterId), Limit.of(limit + 1));
+        return toPage(rows, limit, QuoteWithAuthor::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPeople(Consumer<Person> sink) {
+        try (Stream<Person> people = personRepository.streamAll()) {
+            people.forEach(person -> {
+                sink.accept(person);
+                entityManager.detach(person);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportQuotes(Long personId, Consumer<Quote> sink) {
+        try (Stream<Quote> quotes = personId == null
+                ? quoteRepository.streamAll()
+                : quoteRepository.streamByPersonId(personId)) {
+            // Quotes share their authors, so the persistence context is cleared in batches instead of detaching
+            // each quote; the fetch join hydrates the person again for rows after a clear
+            int[] written = {0};
+            quotes.forEach(quote -> {
+                sink.accept(quote);
+                if (++written[0] % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+
+    // Loads must stamp what they read with the version from before the read, see VersionStampedCache
+    private VersionStampedCache versionStamped(String name) {
+        if (cacheManager.getCache(name) instanceof VersionStampedCache cache) {
+            return cache;
+        }
+        throw new IllegalStateException("Cache " + name + " is not configured as version-stamped");
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IN_PARAMETERS) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + MAX_IN_PARAMETERS)));
+        }
+        return chunks;
+    }
+
+    private static long cursor(Long afterId) {
+        return afterId == null ? 0L : afterId;
+    }
+
+    // Rows were fetched with limit + 1 so we know whether another page exists
+    private static <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, limit));
+        return new CursorPage<>(items, idOf.apply(items.get(limit - 1)));
+    }
     
 }
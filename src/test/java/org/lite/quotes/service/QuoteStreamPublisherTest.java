@@ -0,0 +1,295 @@
+package org.lite.quotes.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lite.quotes.config.QuoteStreamProperties;
+import org.lite.quotes.config.QuoteStreamProperties.OverflowPolicy;
+import org.lite.quotes.entity.Person;
+import org.lite.quotes.entity.Quote;
+import org.lite.quotes.event.QuoteSavedEvent;
+import org.lite.quotes.model.QuoteWithAuthor;
+import org.lite.quotes.repository.QuoteRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives {@link QuoteStreamPublisher} subscribers against an in-memory quote table and records what
+ * each one is sent, covering gaps, out-of-order callbacks, both overflow policies and resume ids.
+ */
+class QuoteStreamPublisherTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    private final ConcurrentSkipListMap<Long, QuoteWithAuthor> rows = new ConcurrentSkipListMap<>();
+    private final QuoteStreamProperties properties = new QuoteStreamProperties();
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private QuoteRepository repository;
+    private QuoteStreamPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 10; id++) {
+            commit(id);
+        }
+        repository = mock(QuoteRepository.class);
+        when(repository.findMaxId()).thenAnswer(invocation -> rows.isEmpty() ? null : rows.lastKey());
+        when(repository.findWithAuthorAfter(any(), any())).thenAnswer(invocation -> {
+            Long afterId = invocation.getArgument(0);
+            Limit limit = invocation.getArgument(1);
+            return rows.tailMap(afterId, false).values().stream().limit(limit.max()).toList();
+        });
+        properties.setHeartbeat(Duration.ofHours(1));
+        properties.setReplayPageSize(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitter.release();
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    void sendsLiveQuotesThatContinueTheSequenceWithoutReading() throws Exception {
+        subscribe(null);
+
+        publish(11);
+        publish(12);
+
+        assertEquals(List.of(11L, 12L), quoteIds(2));
+        verify(repository, never()).findWithAuthorAfter(any(), any());
+    }
+
+    @Test
+    void gapInLiveQuotesIsFilledFromTheDatabase() throws Exception {
+        subscribe(null);
+
+        commit(11);     // Committed, but its callback has not run yet
+        publish(12);
+
+        assertEquals(List.of(11L, 12L), quoteIds(2));
+    }
+
+    @Test
+    void outOfOrderCallbacksAreSentOnceInIdOrder() throws Exception {
+        subscribe(null);
+
+        commit(11);
+        publish(12);
+        publish(11);
+
+        assertEquals(List.of(11L, 12L), quoteIds(2));
+        assertNoMoreQuotes();
+    }
+
+    @Test
+    void coalesceReplaysAnOverflowedBufferFromTheDatabase() throws Exception {
+        properties.setBufferSize(2);
+        properties.setOverflowPolicy(OverflowPolicy.COALESCE);
+        subscribe(null);
+
+        emitter.hold();
+        publish(11);
+        emitter.awaitHeld();
+        publish(12);
+        publish(13);
+        publish(14);    // Overflows the buffer of two
+        emitter.release();
+
+        assertEquals(List.of(11L, 12L, 13L, 14L), quoteIds(4));
+        assertNoMoreQuotes();
+        assertEquals(1, publisher.getStatistics().getCoalesced());
+    }
+
+    @Test
+    void dropOldestDiscardsQuotesWithoutSendingThemLater() throws Exception {
+        properties.setBufferSize(2);
+        properties.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        subscribe(null);
+
+        emitter.hold();
+        publish(11);
+        emitter.awaitHeld();
+        publish(12);
+        publish(13);
+        publish(14);    // Pushes 12 out of the buffer of two
+        emitter.release();
+
+        assertEquals(new Event(QuoteStreamPublisher.QUOTE_EVENT, "11"), emitter.next().withoutData());
+        Event dropped = emitter.next();
+        assertEquals(QuoteStreamPublisher.DROPPED_EVENT, dropped.name());
+        assertEquals("12", dropped.id());
+        assertEquals(1L, dropped.data());
+        assertEquals(List.of(13L, 14L), quoteIds(2));
+        assertNoMoreQuotes();
+        verify(repository, never()).findWithAuthorAfter(any(), any());
+    }
+
+    @Test
+    void resumeReplaysEverythingAfterTheLastEventId() throws Exception {
+        subscribe(7L);
+
+        assertEquals(List.of(8L, 9L, 10L), quoteIds(3));
+
+        publish(11);
+        assertEquals(List.of(11L), quoteIds(1));
+    }
+
+    @Test
+    void resumeIdBeyondTheNewestQuoteStartsFromTheNewestQuote() throws Exception {
+        subscribe(500L);
+
+        publish(11);
+        publish(12);
+
+        assertEquals(List.of(11L, 12L), quoteIds(2));
+    }
+
+    private void subscribe(Long lastEventId) {
+        publisher = new QuoteStreamPublisher(repository, properties) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return emitter;
+            }
+        };
+        publisher.init();
+        publisher.onApplicationReady();
+        assertNotNull(publisher.subscribe(lastEventId));
+    }
+
+    private void commit(long id) {
+        rows.put(id, new QuoteWithAuthor(id, "Quote " + id, null, null, 1L, "Author", null, "Test"));
+    }
+
+    private void publish(long id) {
+        commit(id);
+        Person person = new Person();
+        person.setId(1L);
+        person.setFullName("Author");
+        person.setCategory("Test");
+        Quote quote = new Quote();
+        quote.setId(id);
+        quote.setQuoteText("Quote " + id);
+        quote.setPerson(person);
+        publisher.onQuoteSaved(new QuoteSavedEvent(quote));
+    }
+
+    private List<Long> quoteIds(int count) throws InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Event event = emitter.next();
+            assertEquals(QuoteStreamPublisher.QUOTE_EVENT, event.name(), "Unexpected event " + event);
+            ids.add(Long.valueOf(event.id()));
+        }
+        return ids;
+    }
+
+    private void assertNoMoreQuotes() throws InterruptedException {
+        Event event = emitter.events.poll(300, TimeUnit.MILLISECONDS);
+        assertNull(event, "Unexpected event " + event);
+    }
+
+    private record Event(String name, String id, Object data) {
+        Event(String name, String id) {
+            this(name, id, null);
+        }
+
+        Event withoutData() {
+            return new Event(name, id);
+        }
+
+        static Event parse(Set<ResponseBodyEmitter.DataWithMediaType> parts) {
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : parts) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else {
+                    data = part.getData();
+                }
+            }
+            String name = null;
+            String id = null;
+            for (String line : text.toString().split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("id:")) {
+                    id = line.substring("id:".length());
+                }
+            }
+            return new Event(name, id, data);
+        }
+    }
+
+    /* Records events instead of writing them; hold() makes the next send block until release() */
+    private static final class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+        private volatile CountDownLatch gate;
+        private volatile CountDownLatch held;
+
+        void hold() {
+            held = new CountDownLatch(1);
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitHeld() throws InterruptedException {
+            assertTrue(held.await(WAIT_SECONDS, TimeUnit.SECONDS), "Subscriber never started sending");
+        }
+
+        void release() {
+            CountDownLatch current = gate;
+            gate = null;
+            if (current != null) {
+                current.countDown();
+            }
+        }
+
+        Event next() throws InterruptedException {
+            Event event = events.poll(WAIT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(event, "No event within " + WAIT_SECONDS + " s");
+            return event;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            CountDownLatch current = gate;
+            if (current != null) {
+                held.countDown();
+                try {
+                    current.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            Event event = Event.parse(builder.build());
+            if (event.name() != null) {
+                events.add(event);     // Heartbeat comments have no name
+            }
+        }
+    }
+}